@@ -0,0 +1,76 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------------
+ * DataUtilitiesEventFactory.java
+ * ------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  Group 17;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G17);
+ *
+ */
+
+package org.jfree.data;
+
+
+/**
+ * Creates and commits the Flight Recorder events for
+ * {@link DataUtilitiesMonitor}.  The implementation,
+ * <code>JfrEventFactory</code>, is in the <code>jfr</code> source tree
+ * (it requires Java 11) and is loaded by name, so that this package builds
+ * and runs on Java 8.
+ */
+interface DataUtilitiesEventFactory {
+
+    /**
+     * Creates an event and begins timing it, if the event is enabled in the
+     * current recording settings.
+     *
+     * @return The event, or <code>null</code> if the event is disabled.
+     */
+    Object begin();
+
+    /**
+     * Ends an event returned by {@link #begin()} and commits it, if it
+     * passes the recording thresholds.
+     *
+     * @param event  the event (<code>null</code> not permitted).
+     * @param method  the method name.
+     * @param rows  the number of rows (or items).
+     * @param columns  the number of columns.
+     * @param cells  the number of cells read.
+     * @param nulls  the number of null cells skipped.
+     * @param numbers  the number of Number objects created.
+     */
+    void commit(Object event, String method, int rows, int columns,
+            long cells, long nulls, long numbers);
+
+}
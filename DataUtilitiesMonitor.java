@@ -0,0 +1,337 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * DataUtilitiesMonitor.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  Group 17;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G17);
+ * 18-Oct-2026 : Begin events at the start of the call (G17);
+ * 18-Oct-2026 : Load the Flight Recorder event by name (G17);
+ *
+ */
+
+package org.jfree.data;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Counters and Flight Recorder events for the methods of
+ * {@link InstrumentedDataUtilities}.
+ * <p>
+ * The call, cell, <code>null</code> and <code>Number</code> counters are
+ * always maintained; each monitored call updates them once, after its loop,
+ * so the loops themselves are unchanged.  Timing and Java Flight Recorder
+ * events are opt-in: while the monitor is disabled (the default) a call
+ * costs one extra read of a volatile flag.  Call {@link #register()} to
+ * publish the counters through JMX.
+ * <p>
+ * This class runs on Java 8.  The Flight Recorder event requires Java 11
+ * and lives in the separate <code>jfr</code> source tree; it is loaded by
+ * name when the monitor is first used, and events are simply not recorded
+ * if it is not on the classpath or the runtime has no Flight Recorder.
+ */
+public final class DataUtilitiesMonitor implements DataUtilitiesMonitorMXBean {
+
+    /** The JMX object name. */
+    public static final String OBJECT_NAME
+            = "org.jfree.data:type=DataUtilitiesMonitor";
+
+    /** The method id for calculateColumnTotal(Values2D, int). */
+    static final int COLUMN_TOTAL = 0;
+
+    /** The method id for calculateColumnTotal(Values2D, int, int[]). */
+    static final int COLUMN_TOTAL_VALID_ROWS = 1;
+
+    /** The method id for calculateRowTotal(Values2D, int). */
+    static final int ROW_TOTAL = 2;
+
+    /** The method id for calculateRowTotal(Values2D, int, int[]). */
+    static final int ROW_TOTAL_VALID_COLS = 3;
+
+    /** The method id for createNumberArray(double[]). */
+    static final int CREATE_NUMBER_ARRAY = 4;
+
+    /** The method id for createNumberArray2D(double[][]). */
+    static final int CREATE_NUMBER_ARRAY_2D = 5;
+
+    /** The method id for getCumulativePercentages(KeyedValues). */
+    static final int CUMULATIVE_PERCENTAGES = 6;
+
+    /** The method names, indexed by method id. */
+    private static final String[] METHODS = {"calculateColumnTotal",
+        "calculateColumnTotal(validRows)", "calculateRowTotal",
+        "calculateRowTotal(validCols)", "createNumberArray",
+        "createNumberArray2D", "getCumulativePercentages"};
+
+    /** The single instance. */
+    private static final DataUtilitiesMonitor INSTANCE
+            = new DataUtilitiesMonitor();
+
+    /** The name of the Flight Recorder event factory class. */
+    private static final String EVENT_FACTORY
+            = "org.jfree.data.JfrEventFactory";
+
+    /**
+     * The Flight Recorder event factory (<code>null</code> if Flight
+     * Recorder is not available).
+     */
+    private static final DataUtilitiesEventFactory EVENTS
+            = createEventFactory();
+
+    /** The flag that enables timing and events. */
+    private volatile boolean enabled;
+
+    /** The call counts, indexed by method id. */
+    private final LongAdder[] calls;
+
+    /** The number of cells read. */
+    private final LongAdder cellsVisited;
+
+    /** The number of null cells skipped. */
+    private final LongAdder nullsSkipped;
+
+    /** The number of Number objects created. */
+    private final LongAdder numbersCreated;
+
+    /** The time spent in timed calls. */
+    private final LongAdder totalTimeNanos;
+
+    /**
+     * Creates the monitor.
+     */
+    private DataUtilitiesMonitor() {
+        this.calls = new LongAdder[METHODS.length];
+        for (int i = 0; i < METHODS.length; i++) {
+            this.calls[i] = new LongAdder();
+        }
+        this.cellsVisited = new LongAdder();
+        this.nullsSkipped = new LongAdder();
+        this.numbersCreated = new LongAdder();
+        this.totalTimeNanos = new LongAdder();
+    }
+
+    /**
+     * Returns the monitor.
+     *
+     * @return The monitor (never <code>null</code>).
+     */
+    public static DataUtilitiesMonitor getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers the monitor with the platform MBean server, if it is not
+     * registered already.
+     *
+     * @throws JMException if the registration fails.
+     */
+    public static void register() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        if (!server.isRegistered(name)) {
+            server.registerMBean(INSTANCE, name);
+        }
+    }
+
+    /**
+     * Starts a monitored call.  If the monitor is enabled the returned call
+     * is timed and, when the Flight Recorder event is enabled, carries an
+     * event that has already begun; otherwise a shared untimed call is
+     * returned.
+     *
+     * @return The call (never <code>null</code>).
+     */
+    static Call start() {
+        if (!INSTANCE.enabled) {
+            return Call.UNTIMED;
+        }
+        Object event = (EVENTS != null) ? EVENTS.begin() : null;
+        return new Call(true, System.nanoTime(), event);
+    }
+
+    /**
+     * Records a completed call.
+     *
+     * @param method  the method id.
+     * @param rows  the number of rows (or items).
+     * @param columns  the number of columns.
+     * @param cells  the number of cells read.
+     * @param nulls  the number of null cells skipped.
+     * @param numbers  the number of Number objects created.
+     * @param call  the call returned by {@link #start()}.
+     */
+    static void record(int method, int rows, int columns, long cells,
+            long nulls, long numbers, Call call) {
+        DataUtilitiesMonitor m = INSTANCE;
+        m.calls[method].increment();
+        if (cells != 0) {
+            m.cellsVisited.add(cells);
+        }
+        if (nulls != 0) {
+            m.nullsSkipped.add(nulls);
+        }
+        if (numbers != 0) {
+            m.numbersCreated.add(numbers);
+        }
+        if (call.timed) {
+            m.totalTimeNanos.add(System.nanoTime() - call.startNanos);
+            if (call.event != null) {
+                EVENTS.commit(call.event, METHODS[method], rows, columns,
+                        cells, nulls, numbers);
+            }
+        }
+    }
+
+    /**
+     * Loads the Flight Recorder event factory, if it is on the classpath
+     * and the runtime supports Flight Recorder.
+     *
+     * @return The factory, or <code>null</code>.
+     */
+    private static DataUtilitiesEventFactory createEventFactory() {
+        try {
+            Class.forName("jdk.jfr.Event");
+            return (DataUtilitiesEventFactory) Class.forName(EVENT_FACTORY)
+                    .getDeclaredConstructor().newInstance();
+        }
+        catch (ReflectiveOperationException e) {
+            return null;
+        }
+        catch (LinkageError e) {
+            return null;
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public long getCallCount() {
+        long result = 0;
+        for (int i = 0; i < this.calls.length; i++) {
+            result += this.calls[i].sum();
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getCallCounts() {
+        Map<String, Long> result = new LinkedHashMap<String, Long>();
+        for (int i = 0; i < METHODS.length; i++) {
+            result.put(METHODS[i], Long.valueOf(this.calls[i].sum()));
+        }
+        return result;
+    }
+
+    @Override
+    public long getCellsVisited() {
+        return this.cellsVisited.sum();
+    }
+
+    @Override
+    public long getNullsSkipped() {
+        return this.nullsSkipped.sum();
+    }
+
+    @Override
+    public long getNumbersCreated() {
+        return this.numbersCreated.sum();
+    }
+
+    @Override
+    public long getTotalTimeNanos() {
+        return this.totalTimeNanos.sum();
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < this.calls.length; i++) {
+            this.calls[i].reset();
+        }
+        this.cellsVisited.reset();
+        this.nullsSkipped.reset();
+        this.numbersCreated.reset();
+        this.totalTimeNanos.reset();
+    }
+
+    /**
+     * The state of one monitored call, from {@link #start()} to
+     * {@link #record(int, int, int, long, long, long, Call)}.
+     */
+    static final class Call {
+
+        /** The call used while the monitor is disabled. */
+        static final Call UNTIMED = new Call(false, 0L, null);
+
+        /** A flag that records whether the call is timed. */
+        final boolean timed;
+
+        /** The start time, from <code>System.nanoTime()</code>. */
+        final long startNanos;
+
+        /**
+         * The Flight Recorder event, held as an <code>Object</code> so that
+         * the class loads without Flight Recorder (<code>null</code> if no
+         * event is being recorded).
+         */
+        final Object event;
+
+        /**
+         * Creates a new call.
+         *
+         * @param timed  timed?
+         * @param startNanos  the start time.
+         * @param event  the event (<code>null</code> permitted).
+         */
+        Call(boolean timed, long startNanos, Object event) {
+            this.timed = timed;
+            this.startNanos = startNanos;
+            this.event = event;
+        }
+
+    }
+
+}
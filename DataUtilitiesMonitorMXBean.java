@@ -0,0 +1,116 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------------
+ * DataUtilitiesMonitorMXBean.java
+ * -------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  Group 17;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G17);
+ *
+ */
+
+package org.jfree.data;
+
+import java.util.Map;
+
+/**
+ * The management interface for the {@link DataUtilitiesMonitor} counters,
+ * registered as <code>org.jfree.data:type=DataUtilitiesMonitor</code>.
+ */
+public interface DataUtilitiesMonitorMXBean {
+
+    /**
+     * Returns <code>true</code> if timing and Flight Recorder events are
+     * enabled.
+     *
+     * @return A boolean.
+     */
+    public boolean isEnabled();
+
+    /**
+     * Enables or disables timing and Flight Recorder events.  The call
+     * counters are always maintained.
+     *
+     * @param enabled  the flag.
+     */
+    public void setEnabled(boolean enabled);
+
+    /**
+     * Returns the number of monitored calls, for all methods.
+     *
+     * @return The call count.
+     */
+    public long getCallCount();
+
+    /**
+     * Returns the number of monitored calls for each method.
+     *
+     * @return A map from method name to call count.
+     */
+    public Map<String, Long> getCallCounts();
+
+    /**
+     * Returns the number of table cells read by the total methods.
+     *
+     * @return The cell count.
+     */
+    public long getCellsVisited();
+
+    /**
+     * Returns the number of <code>null</code> cells skipped by the total
+     * methods.
+     *
+     * @return The null count.
+     */
+    public long getNullsSkipped();
+
+    /**
+     * Returns the number of <code>Number</code> objects created.
+     *
+     * @return The object count.
+     */
+    public long getNumbersCreated();
+
+    /**
+     * Returns the time spent in monitored calls while timing was enabled,
+     * in nanoseconds.
+     *
+     * @return The time.
+     */
+    public long getTotalTimeNanos();
+
+    /**
+     * Sets all the counters back to zero.
+     */
+    public void reset();
+
+}
@@ -0,0 +1,473 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * DefaultFloatKeyedValues.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  Group 17;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G17);
+ * 18-Oct-2026 : Return Double values, index keys with an int hash table (G17);
+ *
+ */
+
+package org.jfree.data;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.util.PublicCloneable;
+
+/**
+ * An ordered list of (key, value) items with single precision values.  The
+ * values are held in a <code>float</code> array and <code>null</code> items
+ * are recorded in a bitmap, so each value needs 4 bytes instead of a
+ * reference to a boxed <code>Double</code> as in {@link DefaultKeyedValues}.
+ * The keys are indexed by an open-addressing hash table of
+ * <code>int</code>s (about 8 bytes per item) rather than a
+ * <code>HashMap</code> with an entry and an <code>Integer</code> per item.
+ * Values are widened to <code>double</code> when read, and
+ * {@link #getValue(int)} returns a <code>Double</code>, so
+ * {@link DataUtilities#getCumulativePercentages(KeyedValues)} and
+ * {@link PrimitiveDataUtilities#getCumulativePercentages(KeyedValues,
+ * double[])} accumulate them in double precision.
+ */
+public class DefaultFloatKeyedValues implements DoubleKeyedValues, Cloneable,
+        PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 5734826101946652371L;
+
+    /** Storage for the keys. */
+    private ArrayList<Comparable> keys;
+
+    /** Storage for the values (NaN for null items). */
+    private float[] values;
+
+    /** A bitmap with one bit set for each null item. */
+    private BitSet nulls;
+
+    /**
+     * The hash index of the keys: each slot holds one plus the index of a
+     * key, or zero if it is empty.  The length is a power of two, at least
+     * twice the item count.  It is rebuilt after deserialization, because
+     * it depends on the hash codes of the keys.
+     */
+    private transient int[] index;
+
+    /**
+     * Creates a new collection (initially empty).
+     */
+    public DefaultFloatKeyedValues() {
+        this.keys = new ArrayList<Comparable>();
+        this.values = new float[16];
+        this.nulls = new BitSet();
+        this.index = new int[32];
+    }
+
+    /**
+     * Returns the number of items (values) in the collection.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount() {
+        return this.keys.size();
+    }
+
+    /**
+     * Returns a value.
+     *
+     * @param item  the item of interest (zero-based index).
+     *
+     * @return The value, widened to a <code>Double</code> (possibly
+     *     <code>null</code>).
+     *
+     * @throws IndexOutOfBoundsException if <code>item</code> is out of bounds.
+     */
+    @Override
+    public Number getValue(int item) {
+        checkItem(item);
+        if (this.nulls.get(item)) {
+            return null;
+        }
+        return Double.valueOf(this.values[item]);
+    }
+
+    /**
+     * Returns a value as a primitive.
+     *
+     * @param item  the item of interest (zero-based index).
+     *
+     * @return The value (<code>Double.NaN</code> for a <code>null</code>
+     *         item).
+     *
+     * @throws IndexOutOfBoundsException if <code>item</code> is out of bounds.
+     */
+    @Override
+    public double getDoubleValue(int item) {
+        checkItem(item);
+        return this.values[item];
+    }
+
+    /**
+     * Returns <code>true</code> if the specified item holds no value.
+     *
+     * @param item  the item of interest (zero-based index).
+     *
+     * @return A boolean.
+     *
+     * @throws IndexOutOfBoundsException if <code>item</code> is out of bounds.
+     */
+    @Override
+    public boolean isNull(int item) {
+        checkItem(item);
+        return this.nulls.get(item);
+    }
+
+    /**
+     * Returns a key.
+     *
+     * @param index  the item index (zero-based).
+     *
+     * @return The row key.
+     *
+     * @throws IndexOutOfBoundsException if <code>item</code> is out of bounds.
+     */
+    @Override
+    public Comparable getKey(int index) {
+        return this.keys.get(index);
+    }
+
+    /**
+     * Returns the index for a given key.
+     *
+     * @param key  the key (<code>null</code> not permitted).
+     *
+     * @return The index, or <code>-1</code> if the key is not recognised.
+     *
+     * @throws IllegalArgumentException if <code>key</code> is
+     *     <code>null</code>.
+     */
+    @Override
+    public int getIndex(Comparable key) {
+        ParamChecks.nullNotPermitted(key, "key");
+        return this.index[findSlot(key)] - 1;  // -1 if the slot is empty
+    }
+
+    /**
+     * Returns the keys for the values in the collection.
+     *
+     * @return The keys (never <code>null</code>).
+     */
+    @Override
+    public List getKeys() {
+        return new ArrayList<Comparable>(this.keys);
+    }
+
+    /**
+     * Returns the value for a given key.
+     *
+     * @param key  the key (<code>null</code> not permitted).
+     *
+     * @return The value (possibly <code>null</code>).
+     *
+     * @throws UnknownKeyException if the key is not recognised.
+     *
+     * @see #getValue(int)
+     */
+    @Override
+    public Number getValue(Comparable key) {
+        int index = getIndex(key);
+        if (index < 0) {
+            throw new UnknownKeyException("Key not found: " + key);
+        }
+        return getValue(index);
+    }
+
+    /**
+     * Updates an existing value, or adds a new value to the collection.
+     * The value is rounded to the nearest <code>float</code>.
+     *
+     * @param key  the key (<code>null</code> not permitted).
+     * @param value  the value.
+     */
+    public void setValue(Comparable key, double value) {
+        int index = indexFor(key);
+        this.values[index] = (float) value;
+        this.nulls.clear(index);
+    }
+
+    /**
+     * Updates an existing value, or adds a new value to the collection.
+     *
+     * @param key  the key (<code>null</code> not permitted).
+     * @param value  the value (<code>null</code> permitted).
+     */
+    public void setValue(Comparable key, Number value) {
+        if (value != null) {
+            setValue(key, value.doubleValue());
+            return;
+        }
+        int index = indexFor(key);
+        this.values[index] = Float.NaN;
+        this.nulls.set(index);
+    }
+
+    /**
+     * Updates an existing value, or adds a new value to the collection.
+     *
+     * @param key  the key (<code>null</code> not permitted).
+     * @param value  the value.
+     *
+     * @see #setValue(Comparable, double)
+     */
+    public void addValue(Comparable key, double value) {
+        setValue(key, value);
+    }
+
+    /**
+     * Adds a new value to the collection, or updates an existing value.
+     * This method passes control directly to the
+     * {@link #setValue(Comparable, Number)} method.
+     *
+     * @param key  the key (<code>null</code> not permitted).
+     * @param value  the value (<code>null</code> permitted).
+     */
+    public void addValue(Comparable key, Number value) {
+        setValue(key, value);
+    }
+
+    /**
+     * Removes a value from the collection.
+     *
+     * @param index  the index of the item to remove (in the range
+     *     <code>0</code> to <code>getItemCount() - 1</code>).
+     *
+     * @throws IndexOutOfBoundsException if <code>index</code> is not within
+     *     the specified range.
+     */
+    public void removeValue(int index) {
+        checkItem(index);
+        int count = this.keys.size();
+        this.keys.remove(index);
+        System.arraycopy(this.values, index + 1, this.values, index,
+                count - index - 1);
+        for (int i = index; i < count - 1; i++) {
+            this.nulls.set(i, this.nulls.get(i + 1));
+        }
+        this.nulls.clear(count - 1);
+        rebuildIndex();
+    }
+
+    /**
+     * Removes a value from the collection.
+     *
+     * @param key  the item key (<code>null</code> not permitted).
+     *
+     * @throws IllegalArgumentException if <code>key</code> is
+     *     <code>null</code>.
+     * @throws UnknownKeyException if <code>key</code> is not recognised.
+     */
+    public void removeValue(Comparable key) {
+        int index = getIndex(key);
+        if (index < 0) {
+            throw new UnknownKeyException("The key (" + key
+                    + ") is not recognised.");
+        }
+        removeValue(index);
+    }
+
+    /**
+     * Clears all values from the collection.
+     */
+    public void clear() {
+        this.keys.clear();
+        this.nulls.clear();
+        Arrays.fill(this.index, 0);
+    }
+
+    /**
+     * Returns the index of an existing key, or appends the key (with a
+     * <code>null</code> value) and returns its new index.
+     *
+     * @param key  the key (<code>null</code> not permitted).
+     *
+     * @return The index.
+     */
+    private int indexFor(Comparable key) {
+        int index = getIndex(key);
+        if (index >= 0) {
+            this.keys.set(index, key);
+            return index;
+        }
+        index = this.keys.size();
+        if (index == this.values.length) {
+            this.values = Arrays.copyOf(this.values, index * 2);
+        }
+        this.keys.add(key);
+        this.nulls.set(index);
+        if ((index + 1) * 2 > this.index.length) {
+            this.index = new int[this.index.length * 2];
+            rebuildIndex();
+        }
+        else {
+            this.index[findSlot(key)] = index + 1;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the slot of the hash index that holds a key, or the empty
+     * slot where it would be added.
+     *
+     * @param key  the key.
+     *
+     * @return The slot.
+     */
+    private int findSlot(Comparable key) {
+        int mask = this.index.length - 1;
+        int h = key.hashCode() * 0x9E3779B9;
+        int slot = (h ^ (h >>> 16)) & mask;
+        while (true) {
+            int i = this.index[slot];
+            if (i == 0 || key.equals(this.keys.get(i - 1))) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Rebuilds the hash index from the keys, after a remove operation or
+     * when the index grows.
+     */
+    private void rebuildIndex() {
+        Arrays.fill(this.index, 0);
+        for (int i = 0; i < this.keys.size(); i++) {
+            this.index[findSlot(this.keys.get(i))] = i + 1;
+        }
+    }
+
+    /**
+     * Checks an item index.
+     *
+     * @param item  the item index.
+     */
+    private void checkItem(int item) {
+        if (item < 0 || item >= this.keys.size()) {
+            throw new IndexOutOfBoundsException("Item index out of bounds: "
+                    + item);
+        }
+    }
+
+    /**
+     * Tests this collection for equality with an arbitrary object.  Two
+     * instances are equal if they hold the same keys, in the same order,
+     * with the same values.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof DefaultFloatKeyedValues)) {
+            return false;
+        }
+        DefaultFloatKeyedValues that = (DefaultFloatKeyedValues) obj;
+        if (!this.keys.equals(that.keys)) {
+            return false;
+        }
+        if (!this.nulls.equals(that.nulls)) {
+            return false;
+        }
+        int count = this.keys.size();
+        return Arrays.equals(Arrays.copyOf(this.values, count),
+                Arrays.copyOf(that.values, count));
+    }
+
+    /**
+     * Returns a hash code.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return this.keys.hashCode();
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        int length = 32;
+        while (length < this.keys.size() * 2) {
+            length *= 2;
+        }
+        this.index = new int[length];
+        rebuildIndex();
+    }
+
+    /**
+     * Returns a clone.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException  this class will not throw this
+     *         exception, but subclasses might.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        DefaultFloatKeyedValues clone = (DefaultFloatKeyedValues) super.clone();
+        clone.keys = new ArrayList<Comparable>(this.keys);
+        clone.values = (float[]) this.values.clone();
+        clone.nulls = (BitSet) this.nulls.clone();
+        clone.index = (int[]) this.index.clone();
+        return clone;
+    }
+
+}
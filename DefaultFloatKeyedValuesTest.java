@@ -0,0 +1,156 @@
+package org.jfree.data;
+
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author group17
+ *
+ */
+
+public class DefaultFloatKeyedValuesTest {
+
+    private DefaultFloatKeyedValues values;
+
+    @Before
+    public void setUp() {
+        this.values = new DefaultFloatKeyedValues();
+        this.values.addValue("A", 0.1);
+        this.values.addValue("B", (Number) null);
+        this.values.addValue("C", 16777216.0);
+        this.values.addValue("D", 1.0);
+    }
+
+// ---------------- METHOD BEING TESTED: getValue() / setValue() ---------------- //
+
+    /**
+     * Purpose: Verifies that values are stored in single precision and null items are kept apart from NaN.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testGetValue() {
+        assertEquals(4, this.values.getItemCount());
+        assertEquals((double) 0.1f, this.values.getValue("A").doubleValue(), 0.0);
+        assertNull(this.values.getValue(1));
+        assertTrue(this.values.isNull(1));
+        this.values.setValue("B", Double.NaN);
+        assertFalse(this.values.isNull(1));
+        assertTrue(Double.isNaN(this.values.getDoubleValue(1)));
+        assertEquals(2, this.values.getIndex("C"));
+        assertEquals(-1, this.values.getIndex("Z"));
+    }
+
+    /**
+     * Purpose: Verifies that updating an existing key keeps its position.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testSetValueExistingKey() {
+        this.values.setValue("A", 2.0);
+        assertEquals(4, this.values.getItemCount());
+        assertEquals("A", this.values.getKey(0));
+        assertEquals(2.0, this.values.getDoubleValue(0), 0.0);
+    }
+
+    /**
+     * Purpose: Verifies that removing an item shifts the later values, keys and null flags down.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testRemoveValue() {
+        this.values.removeValue("A");
+        assertEquals(3, this.values.getItemCount());
+        assertTrue(this.values.isNull(0));
+        assertEquals(1, this.values.getIndex("C"));
+        assertEquals(1.0, this.values.getDoubleValue(2), 0.0);
+    }
+
+    /**
+     * Purpose: Verifies that values are returned as Double, like DefaultKeyedValues.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testGetValueReturnsDouble() {
+        assertEquals(Double.valueOf(0.1f), this.values.getValue(0));
+    }
+
+    /**
+     * Purpose: Verifies that the key index stays correct as it grows and after removals.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testIndexManyKeys() {
+        DefaultFloatKeyedValues v = new DefaultFloatKeyedValues();
+        for (int i = 0; i < 1000; i++) {
+            v.addValue(Integer.valueOf(i), i);
+        }
+        v.removeValue(Integer.valueOf(10));
+        assertEquals(999, v.getItemCount());
+        assertEquals(-1, v.getIndex(Integer.valueOf(10)));
+        for (int i = 11; i < 1000; i++) {
+            assertEquals(i - 1, v.getIndex(Integer.valueOf(i)));
+        }
+        v.setValue(Integer.valueOf(500), 7.0);
+        assertEquals(999, v.getItemCount());
+        assertEquals(7.0, v.getValue(Integer.valueOf(500)).doubleValue(), 0.0);
+    }
+
+    /**
+     * Purpose: Verifies that an unknown key is reported as an exception.
+     * Type of tests involved: exception testing
+     */
+    @Test(expected = UnknownKeyException.class)
+    public void testGetValueUnknownKey() {
+        this.values.getValue("Z");
+    }
+
+    /**
+     * Purpose: Verifies that a clone is equal but independent.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        DefaultFloatKeyedValues clone = (DefaultFloatKeyedValues) this.values.clone();
+        assertEquals(this.values, clone);
+        clone.setValue("D", 3.0);
+        assertFalse(this.values.equals(clone));
+    }
+
+// ---------------- METHOD BEING TESTED: PrimitiveDataUtilities.getCumulativePercentages() ---------------- //
+
+    /**
+     * Purpose: Verifies that the values are accumulated in double precision, where float accumulation would lose the 1.
+     * Type of tests involved: boundary value testing
+     */
+    @Test
+    public void testCumulativePercentagesUseDoubleAccumulation() {
+        double[] result = new double[4];
+        assertEquals(4, PrimitiveDataUtilities.getCumulativePercentages(this.values, result));
+        double total = (double) 0.1f + 16777216.0 + 1.0;
+        assertEquals(((double) 0.1f + 16777216.0) / total, result[2], 0.0);
+        assertEquals(1.0, result[3], 0.0);
+        assertTrue(result[2] < 1.0);
+    }
+
+// ---------------- METHOD BEING TESTED: DefaultFloatValues2D totals ---------------- //
+
+    /**
+     * Purpose: Verifies that a float table is totalled in double precision and matches DataUtilities.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testFloatTableTotals() {
+        DefaultFloatValues2D table = new DefaultFloatValues2D(new float[][] {
+            {16777216f, 1f}, {1f, 2f}, {1f, 3f}});
+        table.setValue(2, 1, (Number) null);
+        assertEquals(16777218.0, PrimitiveDataUtilities.calculateColumnTotal(table, 0), 0.0);
+        assertEquals(DataUtilities.calculateColumnTotal(table, 0),
+                PrimitiveDataUtilities.calculateColumnTotal(table, 0), 0.0);
+        assertEquals(3.0, PrimitiveDataUtilities.calculateColumnTotal(table, 1), 0.0);
+        assertEquals(3.0, PrimitiveDataUtilities.calculateRowTotal(table, 1), 0.0);
+        assertNull(table.getValue(2, 1));
+        assertEquals(Float.valueOf(1f), table.getValue(2, 0));
+    }
+
+}
@@ -0,0 +1,300 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * DefaultFloatValues2D.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  Group 17;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G17);
+ * 18-Oct-2026 : Use Float.valueOf() (G17);
+ *
+ */
+
+package org.jfree.data;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import org.jfree.util.PublicCloneable;
+
+/**
+ * A dense, fixed size table of single precision values.  The cells are
+ * stored row by row in a <code>float</code> array and <code>null</code>
+ * cells are recorded in a bitmap, so the table needs 4 bytes (plus one bit)
+ * per cell.  Values are widened to <code>double</code> when read, so the
+ * totals calculated by {@link DataUtilities} and
+ * {@link PrimitiveDataUtilities} are accumulated in double precision.
+ */
+public class DefaultFloatValues2D implements DoubleValues2D, Cloneable,
+        PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2207836425915874604L;
+
+    /** The number of rows. */
+    private int rowCount;
+
+    /** The number of columns. */
+    private int columnCount;
+
+    /** The cell values in row-major order (NaN for null cells). */
+    private float[] values;
+
+    /** A bitmap with one bit set for each null cell. */
+    private long[] nulls;
+
+    /**
+     * Creates a new table in which every cell is <code>null</code>.
+     *
+     * @param rowCount  the number of rows (&gt;= 0).
+     * @param columnCount  the number of columns (&gt;= 0).
+     */
+    public DefaultFloatValues2D(int rowCount, int columnCount) {
+        if (rowCount < 0 || columnCount < 0) {
+            throw new IllegalArgumentException("Negative table dimension: "
+                    + rowCount + " x " + columnCount);
+        }
+        long size = (long) rowCount * columnCount;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Table too large: "
+                    + rowCount + " x " + columnCount);
+        }
+        this.rowCount = rowCount;
+        this.columnCount = columnCount;
+        this.values = new float[(int) size];
+        Arrays.fill(this.values, Float.NaN);
+        this.nulls = new long[(int) ((size + 63) >>> 6)];
+        Arrays.fill(this.nulls, -1L);
+    }
+
+    /**
+     * Creates a new table containing a copy of the supplied data.  Every
+     * row must have the same length.
+     *
+     * @param data  the data (<code>null</code> not permitted).
+     */
+    public DefaultFloatValues2D(float[][] data) {
+        this(data.length, data.length > 0 ? data[0].length : 0);
+        for (int r = 0; r < data.length; r++) {
+            if (data[r].length != this.columnCount) {
+                throw new IllegalArgumentException("Row " + r + " has length "
+                        + data[r].length + ", expected " + this.columnCount);
+            }
+            System.arraycopy(data[r], 0, this.values, r * this.columnCount,
+                    this.columnCount);
+        }
+        Arrays.fill(this.nulls, 0L);
+    }
+
+    /**
+     * Returns the number of rows in the table.
+     *
+     * @return The row count.
+     */
+    @Override
+    public int getRowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * Returns the number of columns in the table.
+     *
+     * @return The column count.
+     */
+    @Override
+    public int getColumnCount() {
+        return this.columnCount;
+    }
+
+    /**
+     * Returns a value from the table.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (possibly <code>null</code>).
+     */
+    @Override
+    public Number getValue(int row, int column) {
+        int i = index(row, column);
+        if (isNullAt(i)) {
+            return null;
+        }
+        return Float.valueOf(this.values[i]);
+    }
+
+    /**
+     * Returns a value from the table as a primitive.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (<code>Double.NaN</code> for a <code>null</code>
+     *         cell).
+     */
+    @Override
+    public double getDoubleValue(int row, int column) {
+        return this.values[index(row, column)];
+    }
+
+    /**
+     * Returns <code>true</code> if the specified cell holds no value.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean isNull(int row, int column) {
+        return isNullAt(index(row, column));
+    }
+
+    /**
+     * Sets the value in a cell.  The value is rounded to the nearest
+     * <code>float</code>.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     * @param value  the value.
+     */
+    public void setValue(int row, int column, double value) {
+        int i = index(row, column);
+        this.values[i] = (float) value;
+        this.nulls[i >>> 6] &= ~(1L << i);
+    }
+
+    /**
+     * Sets the value in a cell.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     * @param value  the value (<code>null</code> permitted).
+     */
+    public void setValue(int row, int column, Number value) {
+        if (value != null) {
+            setValue(row, column, value.doubleValue());
+            return;
+        }
+        int i = index(row, column);
+        this.values[i] = Float.NaN;
+        this.nulls[i >>> 6] |= 1L << i;
+    }
+
+    /**
+     * Returns the offset of a cell in the value array, after checking the
+     * indices.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The offset.
+     */
+    private int index(int row, int column) {
+        if (row < 0 || row >= this.rowCount) {
+            throw new IndexOutOfBoundsException("Row index out of bounds: "
+                    + row);
+        }
+        if (column < 0 || column >= this.columnCount) {
+            throw new IndexOutOfBoundsException("Column index out of bounds: "
+                    + column);
+        }
+        return row * this.columnCount + column;
+    }
+
+    /**
+     * Returns <code>true</code> if the cell at the given offset is null.
+     *
+     * @param i  the offset.
+     *
+     * @return A boolean.
+     */
+    private boolean isNullAt(int i) {
+        return (this.nulls[i >>> 6] & (1L << i)) != 0L;
+    }
+
+    /**
+     * Tests this table for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof DefaultFloatValues2D)) {
+            return false;
+        }
+        DefaultFloatValues2D that = (DefaultFloatValues2D) obj;
+        if (this.rowCount != that.rowCount) {
+            return false;
+        }
+        if (this.columnCount != that.columnCount) {
+            return false;
+        }
+        if (!Arrays.equals(this.nulls, that.nulls)) {
+            return false;
+        }
+        return Arrays.equals(this.values, that.values);
+    }
+
+    /**
+     * Returns a hash code.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result = this.rowCount;
+        result = 29 * result + this.columnCount;
+        result = 29 * result + Arrays.hashCode(this.values);
+        return result;
+    }
+
+    /**
+     * Returns a clone of the table.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        DefaultFloatValues2D clone = (DefaultFloatValues2D) super.clone();
+        clone.values = (float[]) this.values.clone();
+        clone.nulls = (long[]) this.nulls.clone();
+        return clone;
+    }
+
+}
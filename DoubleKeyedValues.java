@@ -0,0 +1,81 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * DoubleKeyedValues.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  Group 17;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G17);
+ *
+ */
+
+package org.jfree.data;
+
+/**
+ * An ordered list of (key, value) items whose values can be read as
+ * <code>double</code> primitives, avoiding the creation of a {@link Number}
+ * for every item.  An item that holds no value is reported as
+ * <code>Double.NaN</code> by {@link #getDoubleValue(int)}; use
+ * {@link #isNull(int)} to tell it apart from an item that really contains
+ * <code>Double.NaN</code>.
+ *
+ * @see PrimitiveDataUtilities
+ */
+public interface DoubleKeyedValues extends KeyedValues {
+
+    /**
+     * Returns a value as a primitive.
+     *
+     * @param item  the item of interest (zero-based index).
+     *
+     * @return The value (<code>Double.NaN</code> for a <code>null</code>
+     *         item).
+     *
+     * @throws IndexOutOfBoundsException if <code>item</code> is out of
+     *         bounds.
+     */
+    public double getDoubleValue(int item);
+
+    /**
+     * Returns <code>true</code> if the specified item holds no value (that
+     * is, {@link #getValue(int)} would return <code>null</code>).
+     *
+     * @param item  the item of interest (zero-based index).
+     *
+     * @return A boolean.
+     *
+     * @throws IndexOutOfBoundsException if <code>item</code> is out of
+     *         bounds.
+     */
+    public boolean isNull(int item);
+
+}
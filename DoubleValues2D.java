@@ -0,0 +1,82 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * DoubleValues2D.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  Group 17;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G17);
+ *
+ */
+
+package org.jfree.data;
+
+/**
+ * A table of values that can be read as <code>double</code> primitives,
+ * avoiding the creation of a {@link Number} for every cell.  A cell that
+ * holds no value is reported as <code>Double.NaN</code> by
+ * {@link #getDoubleValue(int, int)}; use {@link #isNull(int, int)} to tell
+ * it apart from a cell that really contains <code>Double.NaN</code>.
+ *
+ * @see PrimitiveDataUtilities
+ */
+public interface DoubleValues2D extends Values2D {
+
+    /**
+     * Returns a value from the table as a primitive.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (<code>Double.NaN</code> for a <code>null</code>
+     *         cell).
+     *
+     * @throws IndexOutOfBoundsException if the <code>row</code>
+     *         or <code>column</code> is out of bounds.
+     */
+    public double getDoubleValue(int row, int column);
+
+    /**
+     * Returns <code>true</code> if the specified cell holds no value (that
+     * is, {@link #getValue(int, int)} would return <code>null</code>).
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return A boolean.
+     *
+     * @throws IndexOutOfBoundsException if the <code>row</code>
+     *         or <code>column</code> is out of bounds.
+     */
+    public boolean isNull(int row, int column);
+
+}
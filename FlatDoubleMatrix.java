@@ -0,0 +1,340 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * FlatDoubleMatrix.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  Group 17;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G17);
+ * 18-Oct-2026 : Added getFingerprint() (G17);
+ *
+ */
+
+package org.jfree.data;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.util.PublicCloneable;
+
+/**
+ * A matrix of <code>double</code> values held in a single array in row-major
+ * order.  Rows may have different lengths (and may be <code>null</code>),
+ * so any <code>double[][]</code> can be converted to and from this form.
+ * The shape of a matrix is fixed when it is created.
+ * <p>
+ * Compared with {@link DataUtilities#clone(double[][])} and
+ * {@link DataUtilities#equal(double[][], double[][])}, cloning is one bulk
+ * array copy and equality is one scan over contiguous memory (which the
+ * JDK's <code>Arrays.equals()</code> vectorizes on recent releases).  Values
+ * are compared as in <code>DataUtilities.equal()</code>: two NaN values are
+ * equal.
+ */
+public class FlatDoubleMatrix implements Cloneable, PublicCloneable,
+        Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2236081795216405562L;
+
+    /** The values, row by row. */
+    private double[] values;
+
+    /**
+     * The start of each row in the value array, plus a final entry holding
+     * the array length.  Never modified, so it is shared between clones.
+     */
+    private int[] offsets;
+
+    /**
+     * Flags for rows that are <code>null</code> (<code>null</code> if there
+     * are no such rows).  Never modified, so it is shared between clones.
+     */
+    private boolean[] nullRows;
+
+    /**
+     * The content fingerprint, or <code>null</code> if it has not been
+     * calculated yet.  Once calculated, it is updated on every change.
+     */
+    private transient MatrixFingerprint fingerprint;
+
+    /**
+     * Creates a rectangular matrix filled with zeros.
+     *
+     * @param rowCount  the number of rows (&gt;= 0).
+     * @param columnCount  the number of columns (&gt;= 0).
+     */
+    public FlatDoubleMatrix(int rowCount, int columnCount) {
+        if (rowCount < 0 || columnCount < 0) {
+            throw new IllegalArgumentException("Negative matrix dimension: "
+                    + rowCount + " x " + columnCount);
+        }
+        long size = (long) rowCount * columnCount;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Matrix too large: "
+                    + rowCount + " x " + columnCount);
+        }
+        this.values = new double[(int) size];
+        this.offsets = new int[rowCount + 1];
+        for (int r = 1; r <= rowCount; r++) {
+            this.offsets[r] = r * columnCount;
+        }
+    }
+
+    /**
+     * Creates a matrix with the given storage.
+     *
+     * @param values  the values.
+     * @param offsets  the row offsets.
+     * @param nullRows  the null row flags (<code>null</code> permitted).
+     */
+    private FlatDoubleMatrix(double[] values, int[] offsets,
+            boolean[] nullRows) {
+        this.values = values;
+        this.offsets = offsets;
+        this.nullRows = nullRows;
+    }
+
+    /**
+     * Creates a matrix containing a copy of the supplied array.
+     *
+     * @param source  the source array (<code>null</code> not permitted, but
+     *     individual rows may be <code>null</code>).
+     *
+     * @return A new matrix.
+     */
+    public static FlatDoubleMatrix fromArray(double[][] source) {
+        ParamChecks.nullNotPermitted(source, "source");
+        int[] offsets = new int[source.length + 1];
+        boolean[] nullRows = null;
+        long size = 0;
+        for (int r = 0; r < source.length; r++) {
+            offsets[r] = (int) size;
+            if (source[r] == null) {
+                if (nullRows == null) {
+                    nullRows = new boolean[source.length];
+                }
+                nullRows[r] = true;
+            }
+            else {
+                size += source[r].length;
+                if (size > Integer.MAX_VALUE) {
+                    throw new IllegalArgumentException("Matrix too large.");
+                }
+            }
+        }
+        offsets[source.length] = (int) size;
+        double[] values = new double[(int) size];
+        for (int r = 0; r < source.length; r++) {
+            if (source[r] != null) {
+                System.arraycopy(source[r], 0, values, offsets[r],
+                        source[r].length);
+            }
+        }
+        return new FlatDoubleMatrix(values, offsets, nullRows);
+    }
+
+    /**
+     * Returns a new <code>double[][]</code> containing a copy of the values.
+     * Rows that were <code>null</code> in the source array are
+     * <code>null</code> again.
+     *
+     * @return An array.
+     */
+    public double[][] toArray() {
+        int rowCount = getRowCount();
+        double[][] result = new double[rowCount][];
+        for (int r = 0; r < rowCount; r++) {
+            if (!isNullRow(r)) {
+                result[r] = Arrays.copyOfRange(this.values, this.offsets[r],
+                        this.offsets[r + 1]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return The row count.
+     */
+    public int getRowCount() {
+        return this.offsets.length - 1;
+    }
+
+    /**
+     * Returns the length of a row (zero for a <code>null</code> row).
+     *
+     * @param row  the row index (zero-based).
+     *
+     * @return The row length.
+     */
+    public int getRowLength(int row) {
+        return this.offsets[row + 1] - this.offsets[row];
+    }
+
+    /**
+     * Returns <code>true</code> if the specified row is <code>null</code>.
+     *
+     * @param row  the row index (zero-based).
+     *
+     * @return A boolean.
+     */
+    public boolean isNullRow(int row) {
+        if (row < 0 || row >= getRowCount()) {
+            throw new IndexOutOfBoundsException("Row index out of bounds: "
+                    + row);
+        }
+        return this.nullRows != null && this.nullRows[row];
+    }
+
+    /**
+     * Returns a value.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value.
+     */
+    public double get(int row, int column) {
+        return this.values[index(row, column)];
+    }
+
+    /**
+     * Sets a value.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     * @param value  the value.
+     */
+    public void set(int row, int column, double value) {
+        int i = index(row, column);
+        if (this.fingerprint != null) {
+            this.fingerprint = this.fingerprint.update(row, column,
+                    this.values[i], value);
+        }
+        this.values[i] = value;
+    }
+
+    /**
+     * Returns the content fingerprint of this matrix.  It is calculated on
+     * the first call and then kept up to date in constant time by
+     * {@link #set(int, int, double)}, so comparing the fingerprints of two
+     * matrices is a cheap first test for a change.
+     *
+     * @return The fingerprint (never <code>null</code>).
+     */
+    public MatrixFingerprint getFingerprint() {
+        if (this.fingerprint == null) {
+            this.fingerprint = MatrixFingerprint.of(this);
+        }
+        return this.fingerprint;
+    }
+
+    /**
+     * Returns the offset of a cell in the value array, after checking the
+     * indices.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The offset.
+     */
+    private int index(int row, int column) {
+        int length = getRowLength(row);
+        if (column < 0 || column >= length) {
+            throw new IndexOutOfBoundsException("Column index out of bounds: "
+                    + column);
+        }
+        return this.offsets[row] + column;
+    }
+
+    /**
+     * Tests this matrix for equality with an arbitrary object.  Two
+     * matrices are equal if they have the same shape (including the
+     * positions of any <code>null</code> rows) and the same values.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof FlatDoubleMatrix)) {
+            return false;
+        }
+        FlatDoubleMatrix that = (FlatDoubleMatrix) obj;
+        if (this.fingerprint != null && that.fingerprint != null
+                && this.fingerprint.isDefinitelyDifferent(that.fingerprint)) {
+            return false;
+        }
+        if (this.offsets != that.offsets
+                && !Arrays.equals(this.offsets, that.offsets)) {
+            return false;
+        }
+        if (this.nullRows != that.nullRows
+                && !Arrays.equals(this.nullRows, that.nullRows)) {
+            return false;
+        }
+        return Arrays.equals(this.values, that.values);
+    }
+
+    /**
+     * Returns a hash code.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(this.offsets);
+        result = 29 * result + Arrays.hashCode(this.values);
+        return result;
+    }
+
+    /**
+     * Returns a clone of the matrix.  The values are copied with a single
+     * array copy, and the (immutable) shape is shared.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        FlatDoubleMatrix clone = (FlatDoubleMatrix) super.clone();
+        clone.values = (double[]) this.values.clone();
+        return clone;
+    }
+
+}
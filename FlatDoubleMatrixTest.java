@@ -0,0 +1,77 @@
+package org.jfree.data;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * @author group17
+ *
+ */
+
+public class FlatDoubleMatrixTest {
+
+    private static final double[][] JAGGED = {
+        {1.0, 2.0, Double.NaN},
+        null,
+        {},
+        {4.0, Double.POSITIVE_INFINITY}
+    };
+
+// ---------------- METHOD BEING TESTED: fromArray() / toArray() ---------------- //
+
+    /**
+     * Purpose: Verifies that a jagged array with null and empty rows converts back to an equal array.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testFromArrayToArrayJagged() {
+        FlatDoubleMatrix m = FlatDoubleMatrix.fromArray(JAGGED);
+        assertEquals(4, m.getRowCount());
+        assertTrue(m.isNullRow(1));
+        assertEquals(0, m.getRowLength(2));
+        assertEquals(4.0, m.get(3, 0), .000000001d);
+        assertTrue(DataUtilities.equal(JAGGED, m.toArray()));
+    }
+
+    /**
+     * Purpose: Verifies that reading past the end of a short row is reported as an exception.
+     * Type of tests involved: exception testing
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetPastEndOfRow() {
+        FlatDoubleMatrix.fromArray(JAGGED).get(3, 2);
+    }
+
+// ---------------- METHOD BEING TESTED: clone() ---------------- //
+
+    /**
+     * Purpose: Verifies that a clone is equal to the original and independent of it.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testCloneIsIndependent() throws CloneNotSupportedException {
+        FlatDoubleMatrix m = FlatDoubleMatrix.fromArray(JAGGED);
+        FlatDoubleMatrix clone = (FlatDoubleMatrix) m.clone();
+        assertEquals(m, clone);
+        clone.set(0, 0, 99.0);
+        assertFalse(m.equals(clone));
+        assertEquals(1.0, m.get(0, 0), .000000001d);
+    }
+
+// ---------------- METHOD BEING TESTED: equals() ---------------- //
+
+    /**
+     * Purpose: Verifies that equals() agrees with DataUtilities.equal() on NaN values and on differing shapes.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testEqualsMatchesDataUtilities() {
+        double[][] sameValuesOtherShape = {{1.0, 2.0}, {Double.NaN}, null, {}, {4.0, Double.POSITIVE_INFINITY}};
+        assertEquals(FlatDoubleMatrix.fromArray(JAGGED), FlatDoubleMatrix.fromArray(DataUtilities.clone(JAGGED)));
+        assertEquals(DataUtilities.equal(JAGGED, sameValuesOtherShape),
+                FlatDoubleMatrix.fromArray(JAGGED).equals(FlatDoubleMatrix.fromArray(sameValuesOtherShape)));
+        assertFalse(new FlatDoubleMatrix(2, 3).equals(new FlatDoubleMatrix(3, 2)));
+        assertEquals(new FlatDoubleMatrix(2, 3), FlatDoubleMatrix.fromArray(new double[2][3]));
+    }
+
+}
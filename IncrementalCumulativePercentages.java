@@ -0,0 +1,580 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------------------
+ * IncrementalCumulativePercentages.java
+ * -------------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  Group 17;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G17);
+ * 18-Oct-2026 : Rebuild the tree after cancelling updates (G17);
+ * 18-Oct-2026 : Bound rebuilds by the update drift, count NaN and
+ *               infinite values separately (G17);
+ *
+ */
+
+package org.jfree.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * A {@link KeyedValues} collection whose values are the cumulative
+ * percentages of a series of (key, value) items, kept up to date as items
+ * are appended or updated.  The values are the same as those returned by
+ * {@link DataUtilities#getCumulativePercentages(KeyedValues)} for the
+ * items added so far (up to rounding in the last bits, because the running
+ * totals are summed in a different order).
+ * <p>
+ * The running totals are held in a binary indexed (Fenwick) tree, so
+ * appending or updating an item, and reading the cumulative percentage for
+ * any item, each take O(log n) time.  <code>null</code> values are treated
+ * as zero, as in <code>getCumulativePercentages()</code>.
+ * <p>
+ * An update adds the difference between the new and old values to the
+ * tree, and each addition may round away up to one unit in the last place
+ * of the partial sums it touches, so the rounding error of the tree is
+ * bounded by the sum of the magnitudes of the updates.  The tree is
+ * rebuilt from the values, in O(n) time, once that sum exceeds n times the
+ * (compensated) sum of the magnitudes of the current values, which keeps
+ * the error within the bound for adding the values in order.  An update is
+ * at most about twice the current magnitude unless it shrinks the values,
+ * so a rebuild needs about n/2 ordinary updates and costs O(1) amortized
+ * time per update; replacing a large value by a small one triggers it at
+ * once.  NaN and infinite values are counted in separate trees rather than
+ * added to the partial sums, so they can be updated in O(log n) time too.
+ * If the finite partial sums overflow, the tree is rebuilt whenever an
+ * update reduces the magnitude of a value.
+ */
+public class IncrementalCumulativePercentages implements KeyedValues {
+
+    /** The kind of a NaN value. */
+    private static final int NAN = 0;
+
+    /** The kind of a positive infinite value. */
+    private static final int POSITIVE_INFINITY = 1;
+
+    /** The kind of a negative infinite value. */
+    private static final int NEGATIVE_INFINITY = 2;
+
+    /** The keys, in the order they were added. */
+    private List<Comparable> keys;
+
+    /** Maps each key to its index. */
+    private Map<Comparable, Integer> indexMap;
+
+    /** The item values (zero for null). */
+    private double[] values;
+
+    /**
+     * The Fenwick tree of partial sums of the finite values (element 0 is
+     * unused).
+     */
+    private double[] tree;
+
+    /**
+     * The Fenwick trees that count the NaN, positive infinite and negative
+     * infinite values (<code>null</code> until the first such value).
+     */
+    private int[][] specials;
+
+    /** The number of items. */
+    private int count;
+
+    /** The compensated sum of the magnitudes of the finite values. */
+    private double magnitude;
+
+    /** The compensation term for the magnitude. */
+    private double magnitudeCompensation;
+
+    /** The sum of the magnitudes of the updates since the last rebuild. */
+    private double drift;
+
+    /** A flag that records that a finite partial sum has overflowed. */
+    private boolean overflow;
+
+    /** The number of times the tree has been rebuilt. */
+    private int rebuildCount;
+
+    /**
+     * Creates a new, empty, collection.
+     */
+    public IncrementalCumulativePercentages() {
+        this.keys = new ArrayList<Comparable>();
+        this.indexMap = new HashMap<Comparable, Integer>();
+        this.values = new double[16];
+        this.tree = new double[17];
+        this.count = 0;
+    }
+
+    /**
+     * Creates a new collection containing the items from a source.
+     *
+     * @param source  the source values (<code>null</code> not permitted).
+     */
+    public IncrementalCumulativePercentages(KeyedValues source) {
+        this();
+        ParamChecks.nullNotPermitted(source, "source");
+        for (int i = 0; i < source.getItemCount(); i++) {
+            setValue(source.getKey(i), source.getValue(i));
+        }
+    }
+
+    /**
+     * Returns the number of items.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the cumulative percentage for an item.
+     *
+     * @param item  the item index (zero-based).
+     *
+     * @return The cumulative percentage (never <code>null</code>).
+     */
+    @Override
+    public Number getValue(int item) {
+        return new Double(getCumulativePercentage(item));
+    }
+
+    /**
+     * Returns the key for an item.
+     *
+     * @param index  the item index (zero-based).
+     *
+     * @return The key (never <code>null</code>).
+     */
+    @Override
+    public Comparable getKey(int index) {
+        return this.keys.get(index);
+    }
+
+    /**
+     * Returns the index for a given key.
+     *
+     * @param key  the key (<code>null</code> not permitted).
+     *
+     * @return The index, or <code>-1</code> if the key is not recognised.
+     */
+    @Override
+    public int getIndex(Comparable key) {
+        ParamChecks.nullNotPermitted(key, "key");
+        Integer i = this.indexMap.get(key);
+        if (i == null) {
+            return -1;
+        }
+        return i.intValue();
+    }
+
+    /**
+     * Returns the keys, in the order they were added.
+     *
+     * @return The keys (never <code>null</code>).
+     */
+    @Override
+    public List getKeys() {
+        return Collections.unmodifiableList(new ArrayList<Comparable>(
+                this.keys));
+    }
+
+    /**
+     * Returns the cumulative percentage for a given key.
+     *
+     * @param key  the key (<code>null</code> not permitted).
+     *
+     * @return The cumulative percentage.
+     *
+     * @throws UnknownKeyException if the key is not recognised.
+     */
+    @Override
+    public Number getValue(Comparable key) {
+        int index = getIndex(key);
+        if (index < 0) {
+            throw new UnknownKeyException("Key not found: " + key);
+        }
+        return getValue(index);
+    }
+
+    /**
+     * Returns the total of all the values.
+     *
+     * @return The total.
+     */
+    public double getTotal() {
+        return prefixSum(this.count);
+    }
+
+    /**
+     * Returns the number of times the tree has been rebuilt (for testing).
+     *
+     * @return The rebuild count.
+     */
+    int getRebuildCount() {
+        return this.rebuildCount;
+    }
+
+    /**
+     * Returns the total of the values for the items up to and including
+     * the specified item.
+     *
+     * @param item  the item index (zero-based).
+     *
+     * @return The running total.
+     */
+    public double getRunningTotal(int item) {
+        checkIndex(item);
+        return prefixSum(item + 1);
+    }
+
+    /**
+     * Returns the cumulative percentage for an item, as a value between 0.0
+     * and 1.0 (where 1.0 = 100%) when all the values are positive.
+     *
+     * @param item  the item index (zero-based).
+     *
+     * @return The cumulative percentage.
+     */
+    public double getCumulativePercentage(int item) {
+        return getRunningTotal(item) / getTotal();
+    }
+
+    /**
+     * Adds a value, or updates it if the key is already present.
+     *
+     * @param key  the key (<code>null</code> not permitted).
+     * @param value  the value.
+     */
+    public void addValue(Comparable key, double value) {
+        setValue(key, value);
+    }
+
+    /**
+     * Adds a value, or updates it if the key is already present.
+     *
+     * @param key  the key (<code>null</code> not permitted).
+     * @param value  the value (<code>null</code> permitted, and treated as
+     *     zero).
+     */
+    public void addValue(Comparable key, Number value) {
+        setValue(key, value);
+    }
+
+    /**
+     * Updates the value for a key, adding a new item at the end if the key
+     * is not already present.
+     *
+     * @param key  the key (<code>null</code> not permitted).
+     * @param value  the value (<code>null</code> permitted, and treated as
+     *     zero).
+     */
+    public void setValue(Comparable key, Number value) {
+        setValue(key, value != null ? value.doubleValue() : 0.0);
+    }
+
+    /**
+     * Updates the value for a key, adding a new item at the end if the key
+     * is not already present.
+     *
+     * @param key  the key (<code>null</code> not permitted).
+     * @param value  the value.
+     */
+    public void setValue(Comparable key, double value) {
+        int index = getIndex(key);
+        if (index >= 0) {
+            setValue(index, value);
+        }
+        else {
+            append(key, value);
+        }
+    }
+
+    /**
+     * Updates the value for an existing item.
+     *
+     * @param item  the item index (zero-based).
+     * @param value  the new value.
+     */
+    public void setValue(int item, double value) {
+        checkIndex(item);
+        double old = this.values[item];
+        this.values[item] = value;
+        int oldKind = kind(old);
+        int newKind = kind(value);
+        if (oldKind != newKind) {
+            if (oldKind >= 0) {
+                addCount(oldKind, item, -1);
+            }
+            if (newKind >= 0) {
+                addCount(newKind, item, 1);
+            }
+        }
+        double oldFinite = (oldKind < 0) ? old : 0.0;
+        double newFinite = (newKind < 0) ? value : 0.0;
+        double delta = newFinite - oldFinite;
+        if (delta == 0.0) {
+            return;
+        }
+        addMagnitude(Math.abs(newFinite));
+        addMagnitude(-Math.abs(oldFinite));
+        this.drift += Math.abs(delta);
+        if (Double.isInfinite(delta)
+                || this.drift > this.count * getMagnitude()
+                || (this.overflow
+                && Math.abs(newFinite) < Math.abs(oldFinite))) {
+            rebuild();
+            return;
+        }
+        for (int i = item + 1; i <= this.count; i += i & -i) {
+            double t = this.tree[i] + delta;
+            this.tree[i] = t;
+            if (Double.isInfinite(t)) {
+                this.overflow = true;
+            }
+        }
+    }
+
+    /**
+     * Appends a new item.
+     *
+     * @param key  the key.
+     * @param value  the value.
+     */
+    private void append(Comparable key, double value) {
+        if (this.count == this.values.length) {
+            int capacity = this.values.length * 2;
+            double[] v = new double[capacity];
+            System.arraycopy(this.values, 0, v, 0, this.count);
+            this.values = v;
+            double[] t = new double[capacity + 1];
+            System.arraycopy(this.tree, 0, t, 0, this.count + 1);
+            this.tree = t;
+            if (this.specials != null) {
+                for (int k = 0; k < this.specials.length; k++) {
+                    int[] c = new int[capacity + 1];
+                    System.arraycopy(this.specials[k], 0, c, 0,
+                            this.count + 1);
+                    this.specials[k] = c;
+                }
+            }
+        }
+        this.keys.add(key);
+        this.indexMap.put(key, new Integer(this.count));
+        this.values[this.count] = value;
+        this.count++;
+        // the new node covers the values (n - lowbit(n), n], which is the
+        // new value plus the nodes that cover (n - lowbit(n), n - 1]
+        int n = this.count;
+        int kind = kind(value);
+        double sum = (kind < 0) ? value : 0.0;
+        addMagnitude(Math.abs(sum));
+        for (int j = n - 1; j > n - (n & -n); j -= j & -j) {
+            sum += this.tree[j];
+        }
+        this.tree[n] = sum;
+        if (Double.isInfinite(sum)) {
+            this.overflow = true;
+        }
+        if (this.specials != null) {
+            for (int k = 0; k < this.specials.length; k++) {
+                int[] c = this.specials[k];
+                int total = 0;
+                for (int j = n - 1; j > n - (n & -n); j -= j & -j) {
+                    total += c[j];
+                }
+                c[n] = total;
+            }
+        }
+        if (kind >= 0) {
+            addCount(kind, n - 1, 1);
+        }
+    }
+
+    /**
+     * Rebuilds the tree of finite partial sums from the item values in O(n)
+     * time.
+     */
+    private void rebuild() {
+        this.magnitude = 0.0;
+        this.magnitudeCompensation = 0.0;
+        for (int i = 1; i <= this.count; i++) {
+            double v = this.values[i - 1];
+            if (kind(v) >= 0) {
+                v = 0.0;
+            }
+            this.tree[i] = v;
+            addMagnitude(Math.abs(v));
+        }
+        this.overflow = false;
+        for (int i = 1; i <= this.count; i++) {
+            int parent = i + (i & -i);
+            if (parent <= this.count) {
+                this.tree[parent] += this.tree[i];
+            }
+            if (Double.isInfinite(this.tree[i])) {
+                this.overflow = true;
+            }
+        }
+        this.drift = 0.0;
+        this.rebuildCount++;
+    }
+
+    /**
+     * Returns the total of the first <code>n</code> values.
+     *
+     * @param n  the number of values.
+     *
+     * @return The total.
+     */
+    private double prefixSum(int n) {
+        double total = 0.0;
+        for (int i = n; i > 0; i -= i & -i) {
+            total += this.tree[i];
+        }
+        if (this.specials != null) {
+            if (prefixCount(NAN, n) > 0) {
+                return Double.NaN;
+            }
+            if (prefixCount(POSITIVE_INFINITY, n) > 0) {
+                total += Double.POSITIVE_INFINITY;
+            }
+            if (prefixCount(NEGATIVE_INFINITY, n) > 0) {
+                total += Double.NEGATIVE_INFINITY;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of values of one kind among the first
+     * <code>n</code> values.
+     *
+     * @param kind  the kind.
+     * @param n  the number of values.
+     *
+     * @return The count.
+     */
+    private int prefixCount(int kind, int n) {
+        int[] c = this.specials[kind];
+        int total = 0;
+        for (int i = n; i > 0; i -= i & -i) {
+            total += c[i];
+        }
+        return total;
+    }
+
+    /**
+     * Adds to the count of values of one kind at an item.
+     *
+     * @param kind  the kind.
+     * @param item  the item index (zero-based).
+     * @param delta  the change in the count.
+     */
+    private void addCount(int kind, int item, int delta) {
+        if (this.specials == null) {
+            this.specials = new int[3][this.tree.length];
+        }
+        int[] c = this.specials[kind];
+        for (int i = item + 1; i <= this.count; i += i & -i) {
+            c[i] += delta;
+        }
+    }
+
+    /**
+     * Returns the kind of a value: {@link #NAN},
+     * {@link #POSITIVE_INFINITY}, {@link #NEGATIVE_INFINITY}, or -1 for a
+     * finite value.
+     *
+     * @param v  the value.
+     *
+     * @return The kind.
+     */
+    private static int kind(double v) {
+        if (Double.isNaN(v)) {
+            return NAN;
+        }
+        if (v == Double.POSITIVE_INFINITY) {
+            return POSITIVE_INFINITY;
+        }
+        if (v == Double.NEGATIVE_INFINITY) {
+            return NEGATIVE_INFINITY;
+        }
+        return -1;
+    }
+
+    /**
+     * Adds to the compensated magnitude.
+     *
+     * @param x  the amount to add.
+     */
+    private void addMagnitude(double x) {
+        // Neumaier's variant of Kahan summation
+        double sum = this.magnitude;
+        double t = sum + x;
+        if (Math.abs(sum) >= Math.abs(x)) {
+            this.magnitudeCompensation += (sum - t) + x;
+        }
+        else {
+            this.magnitudeCompensation += (x - t) + sum;
+        }
+        this.magnitude = t;
+    }
+
+    /**
+     * Returns the sum of the magnitudes of the finite values.
+     *
+     * @return The magnitude.
+     */
+    private double getMagnitude() {
+        return this.magnitude + this.magnitudeCompensation;
+    }
+
+    /**
+     * Checks an item index.
+     *
+     * @param item  the item index.
+     */
+    private void checkIndex(int item) {
+        if (item < 0 || item >= this.count) {
+            throw new IndexOutOfBoundsException("Item index out of bounds: "
+                    + item);
+        }
+    }
+
+}
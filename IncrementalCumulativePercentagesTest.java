@@ -0,0 +1,158 @@
+package org.jfree.data;
+
+import static org.junit.Assert.*;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * @author group17
+ *
+ */
+
+public class IncrementalCumulativePercentagesTest {
+
+// ---------------- METHOD BEING TESTED: getCumulativePercentage() ---------------- //
+
+    /**
+     * Purpose: Verifies the cumulative percentages for multiple values, including a null value, match DataUtilities.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testCumulativePercentagesMultipleValues() {
+        DefaultKeyedValues data = new DefaultKeyedValues();
+        data.addValue("0", 5.0);
+        data.addValue("1", 9.0);
+        data.addValue("2", (Number) null);
+        data.addValue("3", 2.0);
+        KeyedValues expected = DataUtilities.getCumulativePercentages(data);
+        IncrementalCumulativePercentages result = new IncrementalCumulativePercentages(data);
+        assertEquals(4, result.getItemCount());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(expected.getKey(i), result.getKey(i));
+            assertEquals(expected.getValue(i).doubleValue(), result.getValue(i).doubleValue(), 0.0);
+        }
+        assertEquals(0.3125, result.getValue("0").doubleValue(), .000000001d);
+    }
+
+    /**
+     * Purpose: Verifies that a single value has a cumulative percentage of 1.0.
+     * Type of tests involved: boundary value testing
+     */
+    @Test
+    public void testCumulativePercentagesSingleValue() {
+        IncrementalCumulativePercentages result = new IncrementalCumulativePercentages();
+        result.addValue("someKey", 5.0);
+        assertEquals(1.0, result.getCumulativePercentage(0), .000000001d);
+    }
+
+    /**
+     * Purpose: Verifies that appends and updates keep the percentages equal to a full recalculation.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testCumulativePercentagesAfterAppendsAndUpdates() {
+        Random random = new Random(17L);
+        DefaultKeyedValues data = new DefaultKeyedValues();
+        IncrementalCumulativePercentages result = new IncrementalCumulativePercentages();
+        for (int i = 0; i < 200; i++) {
+            String key = "K" + random.nextInt(120);
+            double value = random.nextInt(1000);
+            data.setValue(key, value);
+            result.setValue(key, value);
+        }
+        KeyedValues expected = DataUtilities.getCumulativePercentages(data);
+        assertEquals(data.getKeys(), result.getKeys());
+        for (int i = 0; i < data.getItemCount(); i++) {
+            assertEquals(expected.getValue(i).doubleValue(), result.getCumulativePercentage(i), 1e-12);
+        }
+    }
+
+    /**
+     * Purpose: Verifies that an infinite value can be replaced by a finite one.
+     * Type of tests involved: boundary value testing
+     */
+    @Test
+    public void testSetValueReplacesInfinity() {
+        IncrementalCumulativePercentages result = new IncrementalCumulativePercentages();
+        result.addValue("A", 1.0);
+        result.addValue("B", Double.POSITIVE_INFINITY);
+        result.addValue("C", 1.0);
+        assertTrue(Double.isNaN(result.getCumulativePercentage(2)));
+        result.setValue("B", 2.0);
+        assertEquals(0.75, result.getCumulativePercentage(1), .000000001d);
+        assertEquals(4.0, result.getTotal(), .000000001d);
+    }
+
+    /**
+     * Purpose: Verifies that replacing a large value by a small one does not
+     * lose the remaining values to cancellation.
+     * Type of tests involved: boundary value testing
+     */
+    @Test
+    public void testSetValueLargeThenReset() {
+        IncrementalCumulativePercentages result = new IncrementalCumulativePercentages();
+        result.addValue("A", 1.0);
+        result.addValue("B", 0.0);
+        result.setValue("B", 1e17);
+        result.setValue("B", 0.0);
+        assertEquals(1.0, result.getTotal(), 0.0);
+        assertEquals(1.0, result.getCumulativePercentage(0), 0.0);
+        assertEquals(1.0, result.getCumulativePercentage(1), 0.0);
+    }
+
+    /**
+     * Purpose: Verifies that repeated updates to a dominant key are applied incrementally rather than by
+     * rebuilding the tree each time.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testSetValueDominantKeyDoesNotRebuildEachTime() {
+        IncrementalCumulativePercentages result = new IncrementalCumulativePercentages();
+        for (int i = 0; i < 1000; i++) {
+            result.addValue("K" + i, 1.0);
+        }
+        result.addValue("BIG", 1e6);
+        int before = result.getRebuildCount();
+        for (int i = 0; i < 10000; i++) {
+            result.setValue("BIG", (i % 2 == 0) ? 2e6 : 1e6);
+        }
+        assertTrue(result.getRebuildCount() - before <= 10);
+        assertEquals(1000.0 + 1e6, result.getTotal(), 0.0);
+        assertEquals(1000.0 / (1000.0 + 1e6), result.getCumulativePercentage(999), 1e-12);
+    }
+
+    /**
+     * Purpose: Verifies that a stored NaN does not stop other updates from being applied incrementally.
+     * Type of tests involved: boundary value testing
+     */
+    @Test
+    public void testSetValueWithStoredNaN() {
+        IncrementalCumulativePercentages result = new IncrementalCumulativePercentages();
+        result.addValue("A", Double.NaN);
+        result.addValue("B", 1.0);
+        result.addValue("C", 2.0);
+        int before = result.getRebuildCount();
+        for (int i = 0; i < 100; i++) {
+            result.setValue("C", 2.0 + i % 2);
+        }
+        assertTrue(result.getRebuildCount() - before <= 20);
+        assertTrue(Double.isNaN(result.getTotal()));
+        result.setValue("A", 1.0);
+        assertEquals(5.0, result.getTotal(), 0.0);
+        assertEquals(0.4, result.getCumulativePercentage(1), .000000001d);
+        result.setValue("B", Double.NEGATIVE_INFINITY);
+        assertEquals(Double.NEGATIVE_INFINITY, result.getTotal(), 0.0);
+        result.setValue("C", Double.POSITIVE_INFINITY);
+        assertTrue(Double.isNaN(result.getTotal()));
+    }
+
+    /**
+     * Purpose: Verifies that an unknown key is reported as an exception.
+     * Type of tests involved: exception testing
+     */
+    @Test(expected = UnknownKeyException.class)
+    public void testGetValueUnknownKey() {
+        new IncrementalCumulativePercentages().getValue("missing");
+    }
+
+}
@@ -0,0 +1,281 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------------
+ * InstrumentedDataUtilities.java
+ * ------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  Group 17;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G17);
+ * 18-Oct-2026 : Count nulls in the percentage total pass (G17);
+ *
+ */
+
+package org.jfree.data;
+
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * Drop-in replacements for the {@link DataUtilities} methods that report
+ * each call to the {@link DataUtilitiesMonitor}: the input dimensions, the
+ * cells visited, the <code>null</code> cells skipped and the
+ * <code>Number</code> objects created.  The results are identical to those
+ * of the <code>DataUtilities</code> methods.  The statistics are kept in
+ * local variables inside the loops and published once per call.
+ */
+public abstract class InstrumentedDataUtilities {
+
+    /**
+     * Returns the total of the values in one column of the supplied data
+     * table.
+     *
+     * @param data  the table of values (<code>null</code> not permitted).
+     * @param column  the column index (zero-based).
+     *
+     * @return The total of the values in the specified column.
+     *
+     * @see DataUtilities#calculateColumnTotal(Values2D, int)
+     */
+    public static double calculateColumnTotal(Values2D data, int column) {
+        ParamChecks.nullNotPermitted(data, "data");
+        DataUtilitiesMonitor.Call call = DataUtilitiesMonitor.start();
+        double total = 0.0;
+        int nulls = 0;
+        int rowCount = data.getRowCount();
+        for (int r = 0; r < rowCount; r++) {
+            Number n = data.getValue(r, column);
+            if (n != null) {
+                total += n.doubleValue();
+            }
+            else {
+                nulls++;
+            }
+        }
+        DataUtilitiesMonitor.record(DataUtilitiesMonitor.COLUMN_TOTAL,
+                rowCount, data.getColumnCount(), rowCount, nulls, 0, call);
+        return total;
+    }
+
+    /**
+     * Returns the total of the values in one column of the supplied data
+     * table by taking only the row numbers in the array into account.
+     *
+     * @param data  the table of values (<code>null</code> not permitted).
+     * @param column  the column index (zero-based).
+     * @param validRows the array with valid rows (zero-based).
+     *
+     * @return The total of the valid values in the specified column.
+     *
+     * @see DataUtilities#calculateColumnTotal(Values2D, int, int[])
+     */
+    public static double calculateColumnTotal(Values2D data, int column,
+            int[] validRows) {
+        ParamChecks.nullNotPermitted(data, "data");
+        DataUtilitiesMonitor.Call call = DataUtilitiesMonitor.start();
+        double total = 0.0;
+        int cells = 0;
+        int nulls = 0;
+        int rowCount = data.getRowCount();
+        for (int v = 0; v < validRows.length; v++) {
+            int row = validRows[v];
+            if (row < rowCount) {
+                cells++;
+                Number n = data.getValue(row, column);
+                if (n != null) {
+                    total += n.doubleValue();
+                }
+                else {
+                    nulls++;
+                }
+            }
+        }
+        DataUtilitiesMonitor.record(
+                DataUtilitiesMonitor.COLUMN_TOTAL_VALID_ROWS, rowCount,
+                data.getColumnCount(), cells, nulls, 0, call);
+        return total;
+    }
+
+    /**
+     * Returns the total of the values in one row of the supplied data
+     * table.
+     *
+     * @param data  the table of values (<code>null</code> not permitted).
+     * @param row  the row index (zero-based).
+     *
+     * @return The total of the values in the specified row.
+     *
+     * @see DataUtilities#calculateRowTotal(Values2D, int)
+     */
+    public static double calculateRowTotal(Values2D data, int row) {
+        ParamChecks.nullNotPermitted(data, "data");
+        DataUtilitiesMonitor.Call call = DataUtilitiesMonitor.start();
+        double total = 0.0;
+        int nulls = 0;
+        int columnCount = data.getColumnCount();
+        for (int c = 0; c < columnCount; c++) {
+            Number n = data.getValue(row, c);
+            if (n != null) {
+                total += n.doubleValue();
+            }
+            else {
+                nulls++;
+            }
+        }
+        DataUtilitiesMonitor.record(DataUtilitiesMonitor.ROW_TOTAL,
+                data.getRowCount(), columnCount, columnCount, nulls, 0,
+                call);
+        return total;
+    }
+
+    /**
+     * Returns the total of the values in one row of the supplied data
+     * table by taking only the column numbers in the array into account.
+     *
+     * @param data  the table of values (<code>null</code> not permitted).
+     * @param row  the row index (zero-based).
+     * @param validCols the array with valid cols (zero-based).
+     *
+     * @return The total of the valid values in the specified row.
+     *
+     * @see DataUtilities#calculateRowTotal(Values2D, int, int[])
+     */
+    public static double calculateRowTotal(Values2D data, int row,
+            int[] validCols) {
+        ParamChecks.nullNotPermitted(data, "data");
+        DataUtilitiesMonitor.Call call = DataUtilitiesMonitor.start();
+        double total = 0.0;
+        int cells = 0;
+        int nulls = 0;
+        int colCount = data.getColumnCount();
+        for (int v = 0; v < validCols.length; v++) {
+            int col = validCols[v];
+            if (col < colCount) {
+                cells++;
+                Number n = data.getValue(row, col);
+                if (n != null) {
+                    total += n.doubleValue();
+                }
+                else {
+                    nulls++;
+                }
+            }
+        }
+        DataUtilitiesMonitor.record(DataUtilitiesMonitor.ROW_TOTAL_VALID_COLS,
+                data.getRowCount(), colCount, cells, nulls, 0, call);
+        return total;
+    }
+
+    /**
+     * Constructs an array of <code>Number</code> objects from an array of
+     * <code>double</code> primitives.
+     *
+     * @param data  the data (<code>null</code> not permitted).
+     *
+     * @return An array of <code>Double</code>.
+     *
+     * @see DataUtilities#createNumberArray(double[])
+     */
+    public static Number[] createNumberArray(double[] data) {
+        ParamChecks.nullNotPermitted(data, "data");
+        DataUtilitiesMonitor.Call call = DataUtilitiesMonitor.start();
+        Number[] result = DataUtilities.createNumberArray(data);
+        DataUtilitiesMonitor.record(DataUtilitiesMonitor.CREATE_NUMBER_ARRAY,
+                data.length, 1, data.length, 0, data.length, call);
+        return result;
+    }
+
+    /**
+     * Constructs an array of arrays of <code>Number</code> objects from a
+     * corresponding structure containing <code>double</code> primitives.
+     *
+     * @param data  the data (<code>null</code> not permitted).
+     *
+     * @return An array of <code>Double</code>.
+     *
+     * @see DataUtilities#createNumberArray2D(double[][])
+     */
+    public static Number[][] createNumberArray2D(double[][] data) {
+        ParamChecks.nullNotPermitted(data, "data");
+        DataUtilitiesMonitor.Call call = DataUtilitiesMonitor.start();
+        Number[][] result = DataUtilities.createNumberArray2D(data);
+        long cells = 0;
+        int columns = 0;
+        for (int i = 0; i < data.length; i++) {
+            cells += data[i].length;
+            columns = Math.max(columns, data[i].length);
+        }
+        DataUtilitiesMonitor.record(
+                DataUtilitiesMonitor.CREATE_NUMBER_ARRAY_2D, data.length,
+                columns, cells, 0, cells, call);
+        return result;
+    }
+
+    /**
+     * Returns a {@link KeyedValues} instance that contains the cumulative
+     * percentage values for the data in another {@link KeyedValues} instance.
+     *
+     * @param data  the data (<code>null</code> not permitted).
+     *
+     * @return The cumulative percentages.
+     *
+     * @see DataUtilities#getCumulativePercentages(KeyedValues)
+     */
+    public static KeyedValues getCumulativePercentages(KeyedValues data) {
+        ParamChecks.nullNotPermitted(data, "data");
+        DataUtilitiesMonitor.Call call = DataUtilitiesMonitor.start();
+        DefaultKeyedValues result = new DefaultKeyedValues();
+        int itemCount = data.getItemCount();
+        int nulls = 0;
+        double total = 0.0;
+        for (int i = 0; i < itemCount; i++) {
+            Number v = data.getValue(i);
+            if (v != null) {
+                total = total + v.doubleValue();
+            }
+            else {
+                nulls++;
+            }
+        }
+        double runningTotal = 0.0;
+        for (int i = 0; i < itemCount; i++) {
+            Number v = data.getValue(i);
+            if (v != null) {
+                runningTotal = runningTotal + v.doubleValue();
+            }
+            result.addValue(data.getKey(i), new Double(runningTotal / total));
+        }
+        DataUtilitiesMonitor.record(
+                DataUtilitiesMonitor.CUMULATIVE_PERCENTAGES, itemCount, 1,
+                itemCount, nulls, itemCount, call);
+        return result;
+    }
+
+}
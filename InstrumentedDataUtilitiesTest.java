@@ -0,0 +1,118 @@
+package org.jfree.data;
+
+import static org.junit.Assert.*;
+import java.lang.management.ManagementFactory;
+import javax.management.ObjectName;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author group17
+ *
+ */
+
+public class InstrumentedDataUtilitiesTest {
+
+    private DataUtilitiesMonitor monitor;
+
+    private DefaultKeyedValues2D table;
+
+    @Before
+    public void setUp() {
+        this.monitor = DataUtilitiesMonitor.getInstance();
+        this.monitor.reset();
+        this.table = new DefaultKeyedValues2D();
+        this.table.addValue(1.0, "R0", "C0");
+        this.table.addValue(null, "R1", "C0");
+        this.table.addValue(3.0, "R2", "C0");
+    }
+
+    @After
+    public void tearDown() {
+        this.monitor.setEnabled(false);
+    }
+
+// ---------------- METHOD BEING TESTED: calculateColumnTotal() ---------------- //
+
+    /**
+     * Purpose: Verifies that the total matches DataUtilities and that cells and nulls are counted while timing is disabled.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testCalculateColumnTotalCounters() {
+        assertEquals(DataUtilities.calculateColumnTotal(this.table, 0),
+                InstrumentedDataUtilities.calculateColumnTotal(this.table, 0), 0.0);
+        assertEquals(1, this.monitor.getCallCount());
+        assertEquals(3, this.monitor.getCellsVisited());
+        assertEquals(1, this.monitor.getNullsSkipped());
+        assertEquals(0, this.monitor.getTotalTimeNanos());
+    }
+
+    /**
+     * Purpose: Verifies that only the valid rows below the row count are counted as visited.
+     * Type of tests involved: boundary value testing
+     */
+    @Test
+    public void testCalculateColumnTotalValidRowsCounters() {
+        this.monitor.setEnabled(true);
+        assertEquals(4.0, InstrumentedDataUtilities.calculateColumnTotal(this.table, 0, new int[] {0, 2, 5}),
+                .000000001d);
+        assertEquals(2, this.monitor.getCellsVisited());
+        assertEquals(Long.valueOf(1), this.monitor.getCallCounts().get("calculateColumnTotal(validRows)"));
+        assertTrue(this.monitor.getTotalTimeNanos() > 0);
+    }
+
+// ---------------- METHOD BEING TESTED: createNumberArray2D() / getCumulativePercentages() ---------------- //
+
+    /**
+     * Purpose: Verifies that the number of Number objects created is counted.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testNumbersCreated() {
+        InstrumentedDataUtilities.createNumberArray2D(new double[][] {{1.0, 2.0}, {3.0}});
+        DefaultKeyedValues data = new DefaultKeyedValues();
+        data.addValue("0", 5.0);
+        data.addValue("1", 9.0);
+        KeyedValues result = InstrumentedDataUtilities.getCumulativePercentages(data);
+        assertEquals(1.0, result.getValue(1).doubleValue(), .000000001d);
+        assertEquals(5, this.monitor.getNumbersCreated());
+    }
+
+    /**
+     * Purpose: Verifies that null items are counted and give the same percentages as DataUtilities.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testCumulativePercentagesNulls() {
+        DefaultKeyedValues data = new DefaultKeyedValues();
+        data.addValue("0", 5.0);
+        data.addValue("1", null);
+        data.addValue("2", 15.0);
+        KeyedValues expected = DataUtilities.getCumulativePercentages(data);
+        KeyedValues result = InstrumentedDataUtilities.getCumulativePercentages(data);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(expected.getValue(i).doubleValue(), result.getValue(i).doubleValue(), 0.0);
+        }
+        assertEquals(1, this.monitor.getNullsSkipped());
+        assertEquals(0, this.monitor.getTotalTimeNanos());
+    }
+
+// ---------------- METHOD BEING TESTED: register() ---------------- //
+
+    /**
+     * Purpose: Verifies that the monitor is published through JMX and that registering twice is harmless.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testRegister() throws Exception {
+        DataUtilitiesMonitor.register();
+        DataUtilitiesMonitor.register();
+        InstrumentedDataUtilities.calculateRowTotal(this.table, 0);
+        Object count = ManagementFactory.getPlatformMBeanServer().getAttribute(
+                new ObjectName(DataUtilitiesMonitor.OBJECT_NAME), "CallCount");
+        assertEquals(Long.valueOf(1), count);
+    }
+
+}
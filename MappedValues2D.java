@@ -0,0 +1,719 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * MappedValues2D.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  Group 17;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G17);
+ * 18-Oct-2026 : Added bulk totals and close() (G17);
+ *
+ */
+
+package org.jfree.data;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * A read-only table of values held in a memory-mapped file, so that the
+ * cells never occupy the Java heap.  Opening a file reads only the header;
+ * the cells are paged in by the operating system as they are used.
+ * <p>
+ * The file format (all numbers little-endian) is:
+ * <ul>
+ * <li>the magic number <code>0x4A463244</code> and the format version
+ *     (<code>int</code>s);</li>
+ * <li>the row count and the column count (<code>int</code>s);</li>
+ * <li>the row keys and then the column keys, each written as an
+ *     <code>int</code> byte count followed by the UTF-8 bytes of the key's
+ *     <code>toString()</code>;</li>
+ * <li>zero padding to the next multiple of 8 bytes;</li>
+ * <li>the cells, row by row, as <code>double</code>s.  A <code>null</code>
+ *     cell is stored as a NaN with the reserved bit pattern
+ *     {@link #NULL_BITS}; a NaN value is always stored in the canonical
+ *     form.</li>
+ * </ul>
+ * Files are written with {@link #write(Values2D, File)}.  Keys are read
+ * back as <code>String</code>s.
+ * <p>
+ * The file is mapped when it is opened, and Java has no way to unmap it
+ * explicitly: the mapping lasts until the mapped buffers are garbage
+ * collected.  On Windows a mapped file cannot be deleted or overwritten,
+ * so call {@link #close()} and drop every reference to the table before
+ * replacing the file; the file is unlocked once the buffers have been
+ * collected.
+ */
+public class MappedValues2D implements DoubleValues2D, KeyedValues2D,
+        Closeable {
+
+    /** The magic number at the start of the file. */
+    public static final int MAGIC = 0x4A463244;
+
+    /** The format version. */
+    public static final int VERSION = 1;
+
+    /** The bit pattern that marks a <code>null</code> cell. */
+    public static final long NULL_BITS = 0x7FF80000004E554CL;
+
+    /** The number of cells in each mapped segment (a power of two). */
+    private static final int SEGMENT_SHIFT = 27;
+
+    /** The mask for the position of a cell within its segment. */
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+    /** The number of cells copied from the file at a time by the totals. */
+    private static final int CHUNK_SIZE = 4096;
+
+    /** The character set for the keys. */
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    /** The row keys. */
+    private List<String> rowKeys;
+
+    /** The column keys. */
+    private List<String> columnKeys;
+
+    /** Maps each row key to its index. */
+    private Map<String, Integer> rowIndex;
+
+    /** Maps each column key to its index. */
+    private Map<String, Integer> columnIndex;
+
+    /**
+     * The mapped cells, split into segments of 2^27 values
+     * (<code>null</code> once the table is closed).
+     */
+    private DoubleBuffer[] segments;
+
+    /**
+     * Creates a table over mapped segments.
+     *
+     * @param rowKeys  the row keys.
+     * @param columnKeys  the column keys.
+     * @param segments  the segments.
+     */
+    private MappedValues2D(List<String> rowKeys, List<String> columnKeys,
+            DoubleBuffer[] segments) {
+        this.rowKeys = rowKeys;
+        this.columnKeys = columnKeys;
+        this.rowIndex = indexOf(rowKeys);
+        this.columnIndex = indexOf(columnKeys);
+        this.segments = segments;
+    }
+
+    /**
+     * Opens a file written by {@link #write(Values2D, File)}.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     *
+     * @return The table.
+     *
+     * @throws IOException if the file cannot be read or is not in the
+     *     expected format.
+     */
+    public static MappedValues2D open(File file) throws IOException {
+        ParamChecks.nullNotPermitted(file, "file");
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = raf.getChannel();
+            long length = channel.size();
+            ByteBuffer header = ByteBuffer.allocate(16).order(
+                    ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, header, 0);
+            if (header.getInt(0) != MAGIC) {
+                throw new IOException("Not a MappedValues2D file: " + file);
+            }
+            if (header.getInt(4) != VERSION) {
+                throw new IOException("Unsupported version "
+                        + header.getInt(4) + " in " + file);
+            }
+            int rowCount = header.getInt(8);
+            int columnCount = header.getInt(12);
+            long[] position = new long[] {16};
+            List<String> rowKeys = readKeys(channel, position, rowCount);
+            List<String> columnKeys = readKeys(channel, position,
+                    columnCount);
+            long dataStart = (position[0] + 7) & ~7L;
+            long cellCount = (long) rowCount * columnCount;
+            if (dataStart + cellCount * 8 > length) {
+                throw new IOException("Truncated MappedValues2D file: "
+                        + file);
+            }
+            int segmentCount = (int) ((cellCount + SEGMENT_MASK)
+                    >>> SEGMENT_SHIFT);
+            DoubleBuffer[] segments = new DoubleBuffer[segmentCount];
+            for (int s = 0; s < segmentCount; s++) {
+                long first = (long) s << SEGMENT_SHIFT;
+                long count = Math.min(cellCount - first, SEGMENT_MASK + 1);
+                segments[s] = channel.map(FileChannel.MapMode.READ_ONLY,
+                        dataStart + first * 8, count * 8).order(
+                        ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+            }
+            // the mappings stay valid after the channel is closed
+            return new MappedValues2D(rowKeys, columnKeys, segments);
+        }
+        finally {
+            raf.close();
+        }
+    }
+
+    /**
+     * Writes a table to a file in the format read by {@link #open(File)}.
+     * If the table is a {@link KeyedValues2D} its keys are written,
+     * otherwise the row and column indices are used as keys.
+     *
+     * @param data  the table (<code>null</code> not permitted).
+     * @param file  the file (<code>null</code> not permitted).
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    public static void write(Values2D data, File file) throws IOException {
+        ParamChecks.nullNotPermitted(data, "data");
+        ParamChecks.nullNotPermitted(file, "file");
+        int rowCount = data.getRowCount();
+        int columnCount = data.getColumnCount();
+        KeyedValues2D keyed = (data instanceof KeyedValues2D)
+                ? (KeyedValues2D) data : null;
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.setLength(0);
+            FileChannel channel = raf.getChannel();
+            ByteBuffer buffer = ByteBuffer.allocate(65536).order(
+                    ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(rowCount)
+                    .putInt(columnCount);
+            long position = 16;
+            for (int pass = 0; pass < 2; pass++) {
+                int count = (pass == 0) ? rowCount : columnCount;
+                for (int i = 0; i < count; i++) {
+                    Comparable key = i;
+                    if (keyed != null) {
+                        key = (pass == 0) ? keyed.getRowKey(i)
+                                : keyed.getColumnKey(i);
+                    }
+                    byte[] bytes = key.toString().getBytes(UTF8);
+                    position += 4 + bytes.length;
+                    ensureSpace(channel, buffer, 4);
+                    buffer.putInt(bytes.length);
+                    for (int b = 0; b < bytes.length; b += buffer.capacity()) {
+                        int n = Math.min(bytes.length - b, buffer.capacity());
+                        ensureSpace(channel, buffer, n);
+                        buffer.put(bytes, b, n);
+                    }
+                }
+            }
+            int padding = (int) (((position + 7) & ~7L) - position);
+            ensureSpace(channel, buffer, padding);
+            buffer.put(new byte[padding]);
+            DoubleValues2D d = (data instanceof DoubleValues2D)
+                    ? (DoubleValues2D) data : null;
+            for (int r = 0; r < rowCount; r++) {
+                for (int c = 0; c < columnCount; c++) {
+                    long bits;
+                    if (d != null) {
+                        double v = d.getDoubleValue(r, c);
+                        bits = (Double.isNaN(v) && d.isNull(r, c))
+                                ? NULL_BITS : Double.doubleToLongBits(v);
+                    }
+                    else {
+                        Number n = data.getValue(r, c);
+                        bits = (n == null) ? NULL_BITS
+                                : Double.doubleToLongBits(n.doubleValue());
+                    }
+                    ensureSpace(channel, buffer, 8);
+                    buffer.putLong(bits);
+                }
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        finally {
+            raf.close();
+        }
+    }
+
+    /**
+     * Returns the number of rows in the table.
+     *
+     * @return The row count.
+     */
+    @Override
+    public int getRowCount() {
+        return this.rowKeys.size();
+    }
+
+    /**
+     * Returns the number of columns in the table.
+     *
+     * @return The column count.
+     */
+    @Override
+    public int getColumnCount() {
+        return this.columnKeys.size();
+    }
+
+    /**
+     * Returns a value from the table.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (possibly <code>null</code>).
+     */
+    @Override
+    public Number getValue(int row, int column) {
+        double v = getDoubleValue(row, column);
+        if (Double.doubleToRawLongBits(v) == NULL_BITS) {
+            return null;
+        }
+        return new Double(v);
+    }
+
+    /**
+     * Returns a value from the table as a primitive, read directly from the
+     * mapped file.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (<code>Double.NaN</code> for a <code>null</code>
+     *         cell).
+     */
+    @Override
+    public double getDoubleValue(int row, int column) {
+        int columnCount = this.columnKeys.size();
+        if (row < 0 || row >= this.rowKeys.size()) {
+            throw new IndexOutOfBoundsException("Row index out of bounds: "
+                    + row);
+        }
+        if (column < 0 || column >= columnCount) {
+            throw new IndexOutOfBoundsException("Column index out of bounds: "
+                    + column);
+        }
+        long i = (long) row * columnCount + column;
+        return segments()[(int) (i >>> SEGMENT_SHIFT)].get(
+                (int) (i & SEGMENT_MASK));
+    }
+
+    /**
+     * Returns the total of the non-<code>null</code> values in one row.
+     * The row is copied from the file in blocks rather than read cell by
+     * cell, and the values are added in column order.
+     *
+     * @param row  the row index (zero-based).
+     *
+     * @return The total.
+     *
+     * @see PrimitiveDataUtilities#calculateRowTotal(Values2D, int)
+     */
+    public double getRowTotal(int row) {
+        int columnCount = this.columnKeys.size();
+        if (columnCount == 0) {
+            return 0.0;
+        }
+        if (row < 0 || row >= this.rowKeys.size()) {
+            throw new IndexOutOfBoundsException("Row index out of bounds: "
+                    + row);
+        }
+        double[] chunk = new double[Math.min(columnCount, CHUNK_SIZE)];
+        long first = (long) row * columnCount;
+        double total = 0.0;
+        int done = 0;
+        while (done < columnCount) {
+            int n = read(first + done, chunk, columnCount - done);
+            for (int i = 0; i < n; i++) {
+                double v = chunk[i];
+                if (Double.doubleToRawLongBits(v) != NULL_BITS) {
+                    total += v;
+                }
+            }
+            done += n;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the total of the non-<code>null</code> values in one column.
+     * The column is read with a strided walk through each mapped segment,
+     * and the values are added in row order.
+     *
+     * @param column  the column index (zero-based).
+     *
+     * @return The total.
+     *
+     * @see PrimitiveDataUtilities#calculateColumnTotal(Values2D, int)
+     */
+    public double getColumnTotal(int column) {
+        int columnCount = this.columnKeys.size();
+        long cellCount = (long) this.rowKeys.size() * columnCount;
+        if (cellCount == 0) {
+            return 0.0;
+        }
+        if (column < 0 || column >= columnCount) {
+            throw new IndexOutOfBoundsException("Column index out of bounds: "
+                    + column);
+        }
+        DoubleBuffer[] buffers = segments();
+        double total = 0.0;
+        long i = column;
+        while (i < cellCount) {
+            int s = (int) (i >>> SEGMENT_SHIFT);
+            DoubleBuffer segment = buffers[s];
+            int limit = segment.limit();
+            long p = i & SEGMENT_MASK;
+            for (; p < limit; p += columnCount) {
+                double v = segment.get((int) p);
+                if (Double.doubleToRawLongBits(v) != NULL_BITS) {
+                    total += v;
+                }
+            }
+            i = ((long) s << SEGMENT_SHIFT) + p;
+        }
+        return total;
+    }
+
+    /**
+     * Calculates every row total and every column total in one sequential
+     * pass over the file, copying the cells in blocks.
+     *
+     * @param rowTotals  receives the row totals (<code>null</code>
+     *     permitted).
+     * @param columnTotals  receives the column totals (<code>null</code>
+     *     permitted).
+     *
+     * @see PrimitiveDataUtilities#calculateTotals(Values2D, double[],
+     *     double[])
+     */
+    public void getTotals(double[] rowTotals, double[] columnTotals) {
+        int rowCount = this.rowKeys.size();
+        int columnCount = this.columnKeys.size();
+        if (rowTotals != null) {
+            Arrays.fill(rowTotals, 0, rowCount, 0.0);
+        }
+        if (columnTotals != null) {
+            Arrays.fill(columnTotals, 0, columnCount, 0.0);
+        }
+        long cellCount = (long) rowCount * columnCount;
+        double[] chunk = new double[(int) Math.min(cellCount, CHUNK_SIZE)];
+        int row = 0;
+        int column = 0;
+        double rowTotal = 0.0;
+        long i = 0;
+        while (i < cellCount) {
+            int n = read(i, chunk, (int) Math.min(cellCount - i,
+                    chunk.length));
+            for (int k = 0; k < n; k++) {
+                double v = chunk[k];
+                if (Double.doubleToRawLongBits(v) != NULL_BITS) {
+                    rowTotal += v;
+                    if (columnTotals != null) {
+                        columnTotals[column] += v;
+                    }
+                }
+                column++;
+                if (column == columnCount) {
+                    if (rowTotals != null) {
+                        rowTotals[row] = rowTotal;
+                    }
+                    rowTotal = 0.0;
+                    column = 0;
+                    row++;
+                }
+            }
+            i += n;
+        }
+    }
+
+    /**
+     * Releases this table's references to the mapped file.  The table
+     * cannot be read after it is closed.  The operating system releases the
+     * mapping, and with it any lock on the file, only when the buffers are
+     * garbage collected.
+     */
+    @Override
+    public void close() {
+        this.segments = null;
+    }
+
+    /**
+     * Returns <code>true</code> if the specified cell holds no value.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean isNull(int row, int column) {
+        return Double.doubleToRawLongBits(getDoubleValue(row, column))
+                == NULL_BITS;
+    }
+
+    /**
+     * Returns the key for a row.
+     *
+     * @param row  the row index (zero-based).
+     *
+     * @return The key.
+     */
+    @Override
+    public Comparable getRowKey(int row) {
+        return this.rowKeys.get(row);
+    }
+
+    /**
+     * Returns the index of a row key.
+     *
+     * @param key  the key (<code>null</code> not permitted).
+     *
+     * @return The index, or <code>-1</code> if the key is not recognised.
+     */
+    @Override
+    public int getRowIndex(Comparable key) {
+        ParamChecks.nullNotPermitted(key, "key");
+        Integer i = this.rowIndex.get(key);
+        return (i != null) ? i.intValue() : -1;
+    }
+
+    /**
+     * Returns the row keys.
+     *
+     * @return The row keys (never <code>null</code>).
+     */
+    @Override
+    public List getRowKeys() {
+        return this.rowKeys;
+    }
+
+    /**
+     * Returns the key for a column.
+     *
+     * @param column  the column index (zero-based).
+     *
+     * @return The key.
+     */
+    @Override
+    public Comparable getColumnKey(int column) {
+        return this.columnKeys.get(column);
+    }
+
+    /**
+     * Returns the index of a column key.
+     *
+     * @param key  the key (<code>null</code> not permitted).
+     *
+     * @return The index, or <code>-1</code> if the key is not recognised.
+     */
+    @Override
+    public int getColumnIndex(Comparable key) {
+        ParamChecks.nullNotPermitted(key, "key");
+        Integer i = this.columnIndex.get(key);
+        return (i != null) ? i.intValue() : -1;
+    }
+
+    /**
+     * Returns the column keys.
+     *
+     * @return The column keys (never <code>null</code>).
+     */
+    @Override
+    public List getColumnKeys() {
+        return this.columnKeys;
+    }
+
+    /**
+     * Returns the value for a pair of keys.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @return The value (possibly <code>null</code>).
+     *
+     * @throws UnknownKeyException if either key is not recognised.
+     */
+    @Override
+    public Number getValue(Comparable rowKey, Comparable columnKey) {
+        int row = getRowIndex(rowKey);
+        if (row < 0) {
+            throw new UnknownKeyException("Unrecognised rowKey: " + rowKey);
+        }
+        int column = getColumnIndex(columnKey);
+        if (column < 0) {
+            throw new UnknownKeyException("Unrecognised columnKey: "
+                    + columnKey);
+        }
+        return getValue(row, column);
+    }
+
+    /**
+     * Returns the mapped segments.
+     *
+     * @return The segments.
+     *
+     * @throws IllegalStateException if the table has been closed.
+     */
+    private DoubleBuffer[] segments() {
+        DoubleBuffer[] result = this.segments;
+        if (result == null) {
+            throw new IllegalStateException("The table has been closed.");
+        }
+        return result;
+    }
+
+    /**
+     * Copies consecutive cells into an array, stopping at the end of the
+     * segment that holds the first cell.
+     *
+     * @param index  the index of the first cell.
+     * @param dest  the destination array.
+     * @param max  the maximum number of cells to copy.
+     *
+     * @return The number of cells copied.
+     */
+    private int read(long index, double[] dest, int max) {
+        DoubleBuffer segment = segments()[(int) (index >>> SEGMENT_SHIFT)]
+                .duplicate();
+        segment.position((int) (index & SEGMENT_MASK));
+        int n = Math.min(Math.min(max, dest.length), segment.remaining());
+        segment.get(dest, 0, n);
+        return n;
+    }
+
+    /**
+     * Builds an index for a list of keys.
+     *
+     * @param keys  the keys.
+     *
+     * @return A map from key to index.
+     */
+    private static Map<String, Integer> indexOf(List<String> keys) {
+        Map<String, Integer> result = new HashMap<String, Integer>();
+        for (int i = 0; i < keys.size(); i++) {
+            result.put(keys.get(i), new Integer(i));
+        }
+        return result;
+    }
+
+    /**
+     * Reads a sequence of keys from the header.
+     *
+     * @param channel  the channel.
+     * @param position  the read position, updated in place.
+     * @param count  the number of keys.
+     *
+     * @return An unmodifiable list of keys.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static List<String> readKeys(FileChannel channel,
+            long[] position, int count) throws IOException {
+        if (count < 0) {
+            throw new IOException("Negative key count: " + count);
+        }
+        List<String> keys = new ArrayList<String>(count);
+        ByteBuffer lengthBuffer = ByteBuffer.allocate(4).order(
+                ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < count; i++) {
+            lengthBuffer.clear();
+            readFully(channel, lengthBuffer, position[0]);
+            int length = lengthBuffer.getInt(0);
+            if (length < 0) {
+                throw new IOException("Negative key length: " + length);
+            }
+            ByteBuffer bytes = ByteBuffer.allocate(length);
+            readFully(channel, bytes, position[0] + 4);
+            keys.add(new String(bytes.array(), UTF8));
+            position[0] += 4 + length;
+        }
+        return Collections.unmodifiableList(keys);
+    }
+
+    /**
+     * Fills a buffer from a channel, starting at a given file position.
+     *
+     * @param channel  the channel.
+     * @param buffer  the buffer.
+     * @param position  the file position.
+     *
+     * @throws IOException if the end of the file is reached first.
+     */
+    private static void readFully(FileChannel channel, ByteBuffer buffer,
+            long position) throws IOException {
+        long p = position;
+        while (buffer.hasRemaining()) {
+            int n = channel.read(buffer, p);
+            if (n < 0) {
+                throw new IOException("Unexpected end of file.");
+            }
+            p += n;
+        }
+    }
+
+    /**
+     * Writes out the buffer, if necessary, so that it has room for the
+     * given number of bytes.
+     *
+     * @param channel  the channel.
+     * @param buffer  the buffer.
+     * @param bytes  the number of bytes required (at most the capacity).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static void ensureSpace(FileChannel channel, ByteBuffer buffer,
+            int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+}
@@ -0,0 +1,137 @@
+package org.jfree.data;
+
+import static org.junit.Assert.*;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @author group17
+ *
+ */
+
+public class MappedValues2DTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+// ---------------- METHOD BEING TESTED: write() / open() ---------------- //
+
+    /**
+     * Purpose: Verifies that a keyed table round-trips through a file, keeping null and NaN cells apart.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testWriteOpenKeyedTable() throws IOException {
+        DefaultKeyedValues2D source = new DefaultKeyedValues2D();
+        source.addValue(1.5, "R0", "C0");
+        source.addValue(Double.NaN, "R0", "C1");
+        source.addValue(null, "R1", "C0");
+        source.addValue(4.0, "R1", "C1");
+        File file = this.folder.newFile("table.bin");
+        MappedValues2D.write(source, file);
+        MappedValues2D mapped = MappedValues2D.open(file);
+        assertEquals(2, mapped.getRowCount());
+        assertEquals(2, mapped.getColumnCount());
+        assertEquals(source.getRowKeys(), mapped.getRowKeys());
+        assertEquals("C1", mapped.getColumnKey(1));
+        assertNull(mapped.getValue("R1", "C0"));
+        assertTrue(mapped.isNull(1, 0));
+        assertFalse(mapped.isNull(0, 1));
+        assertTrue(Double.isNaN(mapped.getValue(0, 1).doubleValue()));
+        assertEquals(DataUtilities.calculateColumnTotal(source, 0),
+                PrimitiveDataUtilities.calculateColumnTotal(mapped, 0), 0.0);
+        assertEquals(DataUtilities.calculateRowTotal(source, 1),
+                PrimitiveDataUtilities.calculateRowTotal(mapped, 1), 0.0);
+    }
+
+    /**
+     * Purpose: Verifies that an unkeyed primitive table is written with index keys.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testWriteOpenUnkeyedTable() throws IOException {
+        DefaultDoubleValues2D source = new DefaultDoubleValues2D(new double[][] {{1.0, 2.0, 3.0}});
+        File file = this.folder.newFile("plain.bin");
+        MappedValues2D.write(source, file);
+        MappedValues2D mapped = MappedValues2D.open(file);
+        assertEquals("2", mapped.getColumnKey(2));
+        assertEquals(2, mapped.getColumnIndex("2"));
+        assertEquals(6.0, PrimitiveDataUtilities.calculateRowTotal(mapped, 0), .000000001d);
+    }
+
+    /**
+     * Purpose: Verifies that a file in another format is rejected.
+     * Type of tests involved: exception testing
+     */
+    @Test(expected = IOException.class)
+    public void testOpenNotATableFile() throws IOException {
+        File file = this.folder.newFile("other.bin");
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        raf.writeLong(42L);
+        raf.writeLong(42L);
+        raf.close();
+        MappedValues2D.open(file);
+    }
+
+    /**
+     * Purpose: Verifies that an invalid column index is reported as an exception.
+     * Type of tests involved: exception testing
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetDoubleValueInvalidColumnIndex() throws IOException {
+        File file = this.folder.newFile("small.bin");
+        MappedValues2D.write(new DefaultDoubleValues2D(new double[][] {{1.0}}), file);
+        MappedValues2D.open(file).getDoubleValue(0, 1);
+    }
+
+// ---------------- METHOD BEING TESTED: getRowTotal() / getColumnTotal() / getTotals() ---------------- //
+
+    /**
+     * Purpose: Verifies that the bulk totals skip null cells and match DataUtilities.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testBulkTotals() throws IOException {
+        DefaultKeyedValues2D source = new DefaultKeyedValues2D();
+        for (int r = 0; r < 3; r++) {
+            for (int c = 0; c < 5000; c++) {
+                Double v = ((r + c) % 7 == 0) ? null : new Double(r * 0.1 + c);
+                source.addValue(v, "R" + r, "C" + c);
+            }
+        }
+        File file = this.folder.newFile("wide.bin");
+        MappedValues2D.write(source, file);
+        MappedValues2D mapped = MappedValues2D.open(file);
+        double[] rowTotals = new double[3];
+        double[] columnTotals = new double[5000];
+        PrimitiveDataUtilities.calculateTotals(mapped, rowTotals, columnTotals);
+        for (int r = 0; r < 3; r++) {
+            assertEquals(DataUtilities.calculateRowTotal(source, r), mapped.getRowTotal(r), 0.0);
+            assertEquals(DataUtilities.calculateRowTotal(source, r), rowTotals[r], 0.0);
+        }
+        for (int c = 0; c < 5000; c += 499) {
+            assertEquals(DataUtilities.calculateColumnTotal(source, c), mapped.getColumnTotal(c), 0.0);
+            assertEquals(DataUtilities.calculateColumnTotal(source, c), columnTotals[c], 0.0);
+        }
+    }
+
+// ---------------- METHOD BEING TESTED: close() ---------------- //
+
+    /**
+     * Purpose: Verifies that a closed table can no longer be read.
+     * Type of tests involved: exception testing
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testReadAfterClose() throws IOException {
+        File file = this.folder.newFile("closed.bin");
+        MappedValues2D.write(new DefaultDoubleValues2D(new double[][] {{1.0}}), file);
+        MappedValues2D mapped = MappedValues2D.open(file);
+        mapped.close();
+        mapped.getRowTotal(0);
+    }
+
+}
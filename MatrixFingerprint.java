@@ -0,0 +1,321 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * MatrixFingerprint.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  Group 17;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G17);
+ * 18-Oct-2026 : Documented the cost of of() (G17);
+ *
+ */
+
+package org.jfree.data;
+
+import java.io.Serializable;
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * A 128-bit fingerprint of the shape and content of a
+ * <code>double[][]</code> (or a {@link FlatDoubleMatrix}), for cheap change
+ * detection.  If two fingerprints differ the matrices are certainly not
+ * equal in the sense of {@link DataUtilities#equal(double[][], double[][])};
+ * if they match, the matrices are equal with overwhelming probability, and
+ * a full comparison can confirm it when certainty is required.
+ * <p>
+ * The fingerprint is a sum of well-mixed 64-bit terms, one per cell (in two
+ * independently seeded lanes), so when a single cell changes the new
+ * fingerprint is found in constant time with
+ * {@link #update(int, int, double, double)}.  All NaN values hash alike,
+ * matching <code>DataUtilities.equal()</code>.  Instances are immutable.
+ * <p>
+ * The <code>of()</code> methods always read every cell.  A
+ * <code>double[][]</code> cannot report its own changes, so the
+ * fingerprint is only maintained incrementally for a caller that applies
+ * each change through {@link #update(int, int, double, double)}, or for a
+ * {@link FlatDoubleMatrix} (created from an array with
+ * {@link FlatDoubleMatrix#fromArray(double[][])}), which keeps its
+ * fingerprint and updates it in constant time on every
+ * {@link FlatDoubleMatrix#set(int, int, double)}.
+ */
+public final class MatrixFingerprint implements Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 6203472318764502261L;
+
+    /** The seed for the high lane. */
+    private static final long SEED_HIGH = 0x9E3779B97F4A7C15L;
+
+    /** The seed for the low lane. */
+    private static final long SEED_LOW = 0x632BE59BD9B4E019L;
+
+    /** A multiplier that spreads the column index. */
+    private static final long COLUMN_STEP = 0xC2B2AE3D27D4EB4FL;
+
+    /** The high 64 bits. */
+    private final long high;
+
+    /** The low 64 bits. */
+    private final long low;
+
+    /**
+     * Creates a fingerprint.
+     *
+     * @param high  the high 64 bits.
+     * @param low  the low 64 bits.
+     */
+    private MatrixFingerprint(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * Calculates the fingerprint of an array.  This reads every cell on
+     * each call (O(cells) time); nothing is cached, because the array may
+     * change at any time.
+     *
+     * @param data  the array (<code>null</code> not permitted, but rows may
+     *     be <code>null</code>).
+     *
+     * @return The fingerprint.
+     */
+    public static MatrixFingerprint of(double[][] data) {
+        ParamChecks.nullNotPermitted(data, "data");
+        long h = shapeTerm(SEED_HIGH, -1, data.length);
+        long l = shapeTerm(SEED_LOW, -1, data.length);
+        for (int r = 0; r < data.length; r++) {
+            double[] row = data[r];
+            int length = (row == null) ? -1 : row.length;
+            h += shapeTerm(SEED_HIGH, r, length);
+            l += shapeTerm(SEED_LOW, r, length);
+            if (row != null) {
+                long rowKeyHigh = rowKey(SEED_HIGH, r);
+                long rowKeyLow = rowKey(SEED_LOW, r);
+                for (int c = 0; c < row.length; c++) {
+                    long bits = Double.doubleToLongBits(row[c]);
+                    h += cellTerm(rowKeyHigh, c, bits);
+                    l += cellTerm(rowKeyLow, c, bits);
+                }
+            }
+        }
+        return new MatrixFingerprint(h, l);
+    }
+
+    /**
+     * Calculates the fingerprint of a matrix.  The result is the same as
+     * for the equivalent <code>double[][]</code>.  This reads every cell
+     * on each call; use {@link FlatDoubleMatrix#getFingerprint()} for the
+     * fingerprint that the matrix maintains.
+     *
+     * @param matrix  the matrix (<code>null</code> not permitted).
+     *
+     * @return The fingerprint.
+     */
+    public static MatrixFingerprint of(FlatDoubleMatrix matrix) {
+        ParamChecks.nullNotPermitted(matrix, "matrix");
+        int rowCount = matrix.getRowCount();
+        long h = shapeTerm(SEED_HIGH, -1, rowCount);
+        long l = shapeTerm(SEED_LOW, -1, rowCount);
+        for (int r = 0; r < rowCount; r++) {
+            boolean nullRow = matrix.isNullRow(r);
+            int length = matrix.getRowLength(r);
+            h += shapeTerm(SEED_HIGH, r, nullRow ? -1 : length);
+            l += shapeTerm(SEED_LOW, r, nullRow ? -1 : length);
+            long rowKeyHigh = rowKey(SEED_HIGH, r);
+            long rowKeyLow = rowKey(SEED_LOW, r);
+            for (int c = 0; c < length; c++) {
+                long bits = Double.doubleToLongBits(matrix.get(r, c));
+                h += cellTerm(rowKeyHigh, c, bits);
+                l += cellTerm(rowKeyLow, c, bits);
+            }
+        }
+        return new MatrixFingerprint(h, l);
+    }
+
+    /**
+     * Returns the fingerprint of the matrix after one cell has changed
+     * from <code>oldValue</code> to <code>newValue</code>.  This takes
+     * constant time.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     * @param oldValue  the value before the change.
+     * @param newValue  the value after the change.
+     *
+     * @return The updated fingerprint.
+     */
+    public MatrixFingerprint update(int row, int column, double oldValue,
+            double newValue) {
+        long oldBits = Double.doubleToLongBits(oldValue);
+        long newBits = Double.doubleToLongBits(newValue);
+        if (oldBits == newBits) {
+            return this;
+        }
+        long rowKeyHigh = rowKey(SEED_HIGH, row);
+        long rowKeyLow = rowKey(SEED_LOW, row);
+        return new MatrixFingerprint(
+                this.high - cellTerm(rowKeyHigh, column, oldBits)
+                        + cellTerm(rowKeyHigh, column, newBits),
+                this.low - cellTerm(rowKeyLow, column, oldBits)
+                        + cellTerm(rowKeyLow, column, newBits));
+    }
+
+    /**
+     * Returns <code>true</code> if the matrices with this fingerprint and
+     * the other fingerprint are certainly different, and <code>false</code>
+     * if they are (almost certainly) equal and a full comparison is needed
+     * to be sure.
+     *
+     * @param other  the other fingerprint (<code>null</code> permitted, and
+     *     treated as different).
+     *
+     * @return A boolean.
+     */
+    public boolean isDefinitelyDifferent(MatrixFingerprint other) {
+        return !equals(other);
+    }
+
+    /**
+     * Returns the high 64 bits of the fingerprint.
+     *
+     * @return The high bits.
+     */
+    public long getHigh() {
+        return this.high;
+    }
+
+    /**
+     * Returns the low 64 bits of the fingerprint.
+     *
+     * @return The low bits.
+     */
+    public long getLow() {
+        return this.low;
+    }
+
+    /**
+     * Returns the term for one element of the shape (the row count when
+     * <code>row</code> is -1, otherwise the length of a row or -1 for a
+     * <code>null</code> row).
+     *
+     * @param seed  the lane seed.
+     * @param row  the row index.
+     * @param length  the length.
+     *
+     * @return The term.
+     */
+    private static long shapeTerm(long seed, int row, int length) {
+        return mix(mix(seed ^ ((long) row << 32 | (length & 0xFFFFFFFFL)))
+                + seed);
+    }
+
+    /**
+     * Returns a key for a row, from which the cell terms are derived.
+     *
+     * @param seed  the lane seed.
+     * @param row  the row index.
+     *
+     * @return The row key.
+     */
+    private static long rowKey(long seed, int row) {
+        return mix(seed + row * SEED_HIGH);
+    }
+
+    /**
+     * Returns the term for one cell.
+     *
+     * @param rowKey  the row key.
+     * @param column  the column index.
+     * @param bits  the value bits.
+     *
+     * @return The term.
+     */
+    private static long cellTerm(long rowKey, int column, long bits) {
+        return mix((rowKey + column * COLUMN_STEP) ^ bits);
+    }
+
+    /**
+     * The MurmurHash3 64-bit finalizer.
+     *
+     * @param k  the input.
+     *
+     * @return The mixed value.
+     */
+    private static long mix(long k) {
+        k ^= k >>> 33;
+        k *= 0xFF51AFD7ED558CCDL;
+        k ^= k >>> 33;
+        k *= 0xC4CEB9FE1A85EC53L;
+        k ^= k >>> 33;
+        return k;
+    }
+
+    /**
+     * Tests this fingerprint for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof MatrixFingerprint)) {
+            return false;
+        }
+        MatrixFingerprint that = (MatrixFingerprint) obj;
+        return this.high == that.high && this.low == that.low;
+    }
+
+    /**
+     * Returns a hash code.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return (int) (this.low ^ (this.low >>> 32));
+    }
+
+    /**
+     * Returns the fingerprint as 32 hexadecimal digits.
+     *
+     * @return A string.
+     */
+    @Override
+    public String toString() {
+        return String.format("%016x%016x", this.high, this.low);
+    }
+
+}
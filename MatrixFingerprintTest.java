@@ -0,0 +1,75 @@
+package org.jfree.data;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * @author group17
+ *
+ */
+
+public class MatrixFingerprintTest {
+
+// ---------------- METHOD BEING TESTED: of() ---------------- //
+
+    /**
+     * Purpose: Verifies that arrays that DataUtilities.equal() accepts, including NaN cells, have the same fingerprint.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testOfEqualArrays() {
+        double[][] a = {{1.0, Double.NaN}, null, {3.0}};
+        double[][] b = {{1.0, 0.0 / 0.0}, null, {3.0}};
+        assertTrue(DataUtilities.equal(a, b));
+        assertEquals(MatrixFingerprint.of(a), MatrixFingerprint.of(b));
+        assertEquals(MatrixFingerprint.of(a), MatrixFingerprint.of(FlatDoubleMatrix.fromArray(a)));
+    }
+
+    /**
+     * Purpose: Verifies that a changed value, moved values or a changed shape give a different fingerprint.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testOfDifferentArrays() {
+        MatrixFingerprint base = MatrixFingerprint.of(new double[][] {{1.0, 2.0}, {3.0}});
+        assertTrue(base.isDefinitelyDifferent(MatrixFingerprint.of(new double[][] {{1.0, 2.5}, {3.0}})));
+        assertTrue(base.isDefinitelyDifferent(MatrixFingerprint.of(new double[][] {{2.0, 1.0}, {3.0}})));
+        assertTrue(base.isDefinitelyDifferent(MatrixFingerprint.of(new double[][] {{1.0}, {2.0, 3.0}})));
+        assertTrue(base.isDefinitelyDifferent(MatrixFingerprint.of(new double[][] {{1.0, 2.0}, {3.0}, null})));
+        assertTrue(base.isDefinitelyDifferent(MatrixFingerprint.of(new double[][] {{1.0, 2.0}, {3.0}, {}})));
+        assertTrue(base.isDefinitelyDifferent(null));
+    }
+
+// ---------------- METHOD BEING TESTED: update() ---------------- //
+
+    /**
+     * Purpose: Verifies that an incremental update gives the same fingerprint as a full recalculation.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testUpdateMatchesRecalculation() {
+        double[][] data = {{1.0, 2.0, 3.0}, {4.0, 5.0}};
+        MatrixFingerprint fingerprint = MatrixFingerprint.of(data);
+        fingerprint = fingerprint.update(1, 1, 5.0, Double.NaN);
+        data[1][1] = Double.NaN;
+        assertEquals(MatrixFingerprint.of(data), fingerprint);
+        assertSame(fingerprint, fingerprint.update(0, 0, 1.0, 1.0));
+    }
+
+    /**
+     * Purpose: Verifies that a FlatDoubleMatrix keeps its cached fingerprint up to date and that clones share it.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testFlatDoubleMatrixFingerprint() throws CloneNotSupportedException {
+        FlatDoubleMatrix m = FlatDoubleMatrix.fromArray(new double[][] {{1.0, 2.0}, {3.0}});
+        MatrixFingerprint before = m.getFingerprint();
+        FlatDoubleMatrix clone = (FlatDoubleMatrix) m.clone();
+        m.set(1, 0, -3.0);
+        assertTrue(before.isDefinitelyDifferent(m.getFingerprint()));
+        assertEquals(MatrixFingerprint.of(m.toArray()), m.getFingerprint());
+        assertEquals(before, clone.getFingerprint());
+        assertFalse(m.equals(clone));
+    }
+
+}
@@ -0,0 +1,301 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * ParallelTotalCalculator.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  Group 17;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G17);
+ * 18-Oct-2026 : Added serialVersionUID to TotalTask (G17);
+ *
+ */
+
+package org.jfree.data;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * Calculates row and column totals for large tables by splitting the rows
+ * (or columns) across a {@link ForkJoinPool}.
+ * <p>
+ * The index range is halved until each piece holds no more than
+ * <code>threshold</code> entries, the pieces are summed in index order, and
+ * the partial sums are added back together following the same binary tree.
+ * Because the split points depend only on the table size and the threshold,
+ * the result is bit-for-bit the same whatever the number of cores or
+ * threads.  Ranges no larger than the threshold are summed on the calling
+ * thread and give exactly the result of the {@link DataUtilities} methods.
+ * Larger ranges are added in a different order, so the result may differ
+ * from the sequential total in the last bits.
+ * <p>
+ * The table must not be modified while a total is being calculated.
+ */
+public class ParallelTotalCalculator {
+
+    /** The default threshold. */
+    public static final int DEFAULT_THRESHOLD = 65536;
+
+    /** The pool that runs the tasks. */
+    private ForkJoinPool pool;
+
+    /** The largest range that is summed without splitting. */
+    private int threshold;
+
+    /**
+     * Creates a calculator that uses the common pool and the default
+     * threshold.
+     */
+    public ParallelTotalCalculator() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Creates a calculator.
+     *
+     * @param pool  the pool (<code>null</code> not permitted).
+     * @param threshold  the largest number of rows or columns that is summed
+     *     as one task (must be positive).
+     */
+    public ParallelTotalCalculator(ForkJoinPool pool, int threshold) {
+        ParamChecks.nullNotPermitted(pool, "pool");
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Requires 'threshold' > 0.");
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Returns the pool that runs the tasks.
+     *
+     * @return The pool (never <code>null</code>).
+     */
+    public ForkJoinPool getPool() {
+        return this.pool;
+    }
+
+    /**
+     * Returns the largest number of rows or columns that is summed as one
+     * task.
+     *
+     * @return The threshold.
+     */
+    public int getThreshold() {
+        return this.threshold;
+    }
+
+    /**
+     * Returns the total of the values in one column of the supplied data
+     * table.
+     *
+     * @param data  the table of values (<code>null</code> not permitted).
+     * @param column  the column index (zero-based).
+     *
+     * @return The total of the values in the specified column.
+     *
+     * @see DataUtilities#calculateColumnTotal(Values2D, int)
+     */
+    public double calculateColumnTotal(Values2D data, int column) {
+        ParamChecks.nullNotPermitted(data, "data");
+        return total(new TotalTask(data, column, true, null, 0,
+                data.getRowCount()));
+    }
+
+    /**
+     * Returns the total of the values in one column of the supplied data
+     * table by taking only the row numbers in the array into account.
+     *
+     * @param data  the table of values (<code>null</code> not permitted).
+     * @param column  the column index (zero-based).
+     * @param validRows the array with valid rows (zero-based).
+     *
+     * @return The total of the valid values in the specified column.
+     *
+     * @see DataUtilities#calculateColumnTotal(Values2D, int, int[])
+     */
+    public double calculateColumnTotal(Values2D data, int column,
+            int[] validRows) {
+        ParamChecks.nullNotPermitted(data, "data");
+        return total(new TotalTask(data, column, true, validRows, 0,
+                validRows.length));
+    }
+
+    /**
+     * Returns the total of the values in one row of the supplied data
+     * table.
+     *
+     * @param data  the table of values (<code>null</code> not permitted).
+     * @param row  the row index (zero-based).
+     *
+     * @return The total of the values in the specified row.
+     *
+     * @see DataUtilities#calculateRowTotal(Values2D, int)
+     */
+    public double calculateRowTotal(Values2D data, int row) {
+        ParamChecks.nullNotPermitted(data, "data");
+        return total(new TotalTask(data, row, false, null, 0,
+                data.getColumnCount()));
+    }
+
+    /**
+     * Returns the total of the values in one row of the supplied data
+     * table by taking only the column numbers in the array into account.
+     *
+     * @param data  the table of values (<code>null</code> not permitted).
+     * @param row  the row index (zero-based).
+     * @param validCols the array with valid cols (zero-based).
+     *
+     * @return The total of the valid values in the specified row.
+     *
+     * @see DataUtilities#calculateRowTotal(Values2D, int, int[])
+     */
+    public double calculateRowTotal(Values2D data, int row,
+            int[] validCols) {
+        ParamChecks.nullNotPermitted(data, "data");
+        return total(new TotalTask(data, row, false, validCols, 0,
+                validCols.length));
+    }
+
+    /**
+     * Runs a task, in the pool only if it is larger than the threshold.
+     *
+     * @param task  the task.
+     *
+     * @return The total.
+     */
+    private double total(TotalTask task) {
+        if (task.hi - task.lo <= this.threshold) {
+            return task.sum();
+        }
+        this.pool.invoke(task);
+        return task.result;
+    }
+
+    /**
+     * A task that totals the cells along one row or column, over a range of
+     * positions.
+     */
+    private final class TotalTask extends RecursiveAction {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -3517742916008426193L;
+
+        /** The table. */
+        private final Values2D data;
+
+        /** The fixed index (the column for a column total). */
+        private final int fixed;
+
+        /** A flag that selects a column total or a row total. */
+        private final boolean byColumn;
+
+        /** The valid indices (<code>null</code> for all indices). */
+        private final int[] indices;
+
+        /** The first position (inclusive). */
+        private final int lo;
+
+        /** The last position (exclusive). */
+        private final int hi;
+
+        /** The total for the range, once the task has completed. */
+        private double result;
+
+        TotalTask(Values2D data, int fixed, boolean byColumn, int[] indices,
+                int lo, int hi) {
+            this.data = data;
+            this.fixed = fixed;
+            this.byColumn = byColumn;
+            this.indices = indices;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.hi - this.lo <= ParallelTotalCalculator.this.threshold) {
+                this.result = sum();
+                return;
+            }
+            int mid = (this.lo + this.hi) >>> 1;
+            TotalTask left = new TotalTask(this.data, this.fixed,
+                    this.byColumn, this.indices, this.lo, mid);
+            TotalTask right = new TotalTask(this.data, this.fixed,
+                    this.byColumn, this.indices, mid, this.hi);
+            left.fork();
+            right.compute();
+            left.join();
+            this.result = left.result + right.result;
+        }
+
+        /**
+         * Sums the range sequentially, in index order.
+         *
+         * @return The total.
+         */
+        double sum() {
+            int count = this.byColumn ? this.data.getRowCount()
+                    : this.data.getColumnCount();
+            DoubleValues2D d = (this.data instanceof DoubleValues2D)
+                    ? (DoubleValues2D) this.data : null;
+            double total = 0.0;
+            for (int i = this.lo; i < this.hi; i++) {
+                int k = i;
+                if (this.indices != null) {
+                    k = this.indices[i];
+                    if (k >= count) {
+                        continue;
+                    }
+                }
+                int r = this.byColumn ? k : this.fixed;
+                int c = this.byColumn ? this.fixed : k;
+                if (d != null) {
+                    double v = d.getDoubleValue(r, c);
+                    if (!Double.isNaN(v) || !d.isNull(r, c)) {
+                        total += v;
+                    }
+                }
+                else {
+                    Number n = this.data.getValue(r, c);
+                    if (n != null) {
+                        total += n.doubleValue();
+                    }
+                }
+            }
+            return total;
+        }
+
+    }
+
+}
@@ -0,0 +1,108 @@
+package org.jfree.data;
+
+import static org.junit.Assert.*;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author group17
+ *
+ */
+
+public class ParallelTotalCalculatorTest {
+
+    private DefaultDoubleValues2D data;
+
+    @Before
+    public void setUp() {
+        Random random = new Random(438L);
+        this.data = new DefaultDoubleValues2D(1000, 40);
+        for (int r = 0; r < 1000; r++) {
+            for (int c = 0; c < 40; c++) {
+                if (random.nextInt(10) != 0) {
+                    this.data.setValue(r, c, random.nextGaussian() * 1e6);
+                }
+            }
+        }
+    }
+
+// ---------------- METHOD BEING TESTED: calculateColumnTotal() ---------------- //
+
+    /**
+     * Purpose: Verifies that a table below the threshold gives exactly the sequential total.
+     * Type of tests involved: boundary value testing
+     */
+    @Test
+    public void testCalculateColumnTotalBelowThreshold() {
+        ParallelTotalCalculator calculator = new ParallelTotalCalculator(new ForkJoinPool(4), 1000);
+        assertEquals(Double.doubleToLongBits(DataUtilities.calculateColumnTotal(this.data, 3)),
+                Double.doubleToLongBits(calculator.calculateColumnTotal(this.data, 3)));
+    }
+
+    /**
+     * Purpose: Verifies that the parallel total does not depend on the number of threads.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testCalculateColumnTotalIndependentOfParallelism() {
+        double one = new ParallelTotalCalculator(new ForkJoinPool(1), 7).calculateColumnTotal(this.data, 5);
+        double eight = new ParallelTotalCalculator(new ForkJoinPool(8), 7).calculateColumnTotal(this.data, 5);
+        assertEquals(Double.doubleToLongBits(one), Double.doubleToLongBits(eight));
+        assertEquals(DataUtilities.calculateColumnTotal(this.data, 5), one, 1e-3);
+    }
+
+    /**
+     * Purpose: Verifies the valid rows overload across several tasks, including rows beyond the row count.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testCalculateColumnTotalValidRows() {
+        int[] rows = new int[300];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = i * 4;
+        }
+        ParallelTotalCalculator calculator = new ParallelTotalCalculator(new ForkJoinPool(3), 16);
+        assertEquals(DataUtilities.calculateColumnTotal(this.data, 0, rows),
+                calculator.calculateColumnTotal(this.data, 0, rows), 1e-3);
+    }
+
+    /**
+     * Purpose: Verifies that an invalid column index raised inside a task reaches the caller.
+     * Type of tests involved: exception testing
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testCalculateColumnTotalInvalidColumnIndex() {
+        new ParallelTotalCalculator(new ForkJoinPool(2), 10).calculateColumnTotal(this.data, 40);
+    }
+
+// ---------------- METHOD BEING TESTED: calculateRowTotal() ---------------- //
+
+    /**
+     * Purpose: Verifies the row total overloads on a boxed table split into several tasks.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testCalculateRowTotal() {
+        DefaultKeyedValues2D boxed = new DefaultKeyedValues2D();
+        for (int c = 0; c < 40; c++) {
+            boxed.addValue(this.data.getValue(2, c), "R", "C" + c);
+        }
+        ParallelTotalCalculator calculator = new ParallelTotalCalculator(new ForkJoinPool(2), 5);
+        assertEquals(DataUtilities.calculateRowTotal(boxed, 0), calculator.calculateRowTotal(boxed, 0), 1e-3);
+        int[] cols = {1, 3, 39, 40, 99};
+        assertEquals(DataUtilities.calculateRowTotal(boxed, 0, cols),
+                calculator.calculateRowTotal(this.data, 2, cols), 1e-3);
+    }
+
+    /**
+     * Purpose: Verifies that a non-positive threshold is rejected.
+     * Type of tests involved: exception testing
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorZeroThreshold() {
+        new ParallelTotalCalculator(ForkJoinPool.commonPool(), 0);
+    }
+
+}
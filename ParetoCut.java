@@ -0,0 +1,174 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------
+ * ParetoCut.java
+ * --------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  Group 17;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G17);
+ *
+ */
+
+package org.jfree.data;
+
+import java.io.Serializable;
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * The item at which the cumulative share of a {@link KeyedValues} collection
+ * first reaches a threshold (for example, the 80% cut of a Pareto chart).
+ * Instances are immutable and are returned by
+ * {@link PrimitiveDataUtilities#findParetoCut(KeyedValues, double)} and
+ * {@link PrimitiveDataUtilities#findParetoCutByValue(KeyedValues, double)}.
+ */
+public final class ParetoCut implements Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 3350982617420153671L;
+
+    /** The index of the cut item in the source collection. */
+    private final int index;
+
+    /** The key of the cut item. */
+    private final Comparable key;
+
+    /** The number of items up to and including the cut item. */
+    private final int itemCount;
+
+    /** The cumulative percentage at the cut item. */
+    private final double cumulativePercentage;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param index  the index of the cut item in the source collection.
+     * @param key  the key of the cut item (<code>null</code> not permitted).
+     * @param itemCount  the number of items up to and including the cut
+     *     item, in the order the share was accumulated.
+     * @param cumulativePercentage  the cumulative percentage at the cut
+     *     item (in the range 0.0 to 1.0 for non-negative data).
+     */
+    public ParetoCut(int index, Comparable key, int itemCount,
+            double cumulativePercentage) {
+        ParamChecks.nullNotPermitted(key, "key");
+        this.index = index;
+        this.key = key;
+        this.itemCount = itemCount;
+        this.cumulativePercentage = cumulativePercentage;
+    }
+
+    /**
+     * Returns the index of the cut item in the source collection.
+     *
+     * @return The index.
+     */
+    public int getIndex() {
+        return this.index;
+    }
+
+    /**
+     * Returns the key of the cut item.
+     *
+     * @return The key (never <code>null</code>).
+     */
+    public Comparable getKey() {
+        return this.key;
+    }
+
+    /**
+     * Returns the number of items, up to and including the cut item, that
+     * together make up the cumulative share.  When the items are taken in
+     * descending order of value this is the size of the "vital few".
+     *
+     * @return The item count.
+     */
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Returns the cumulative percentage at the cut item.
+     *
+     * @return The cumulative percentage.
+     */
+    public double getCumulativePercentage() {
+        return this.cumulativePercentage;
+    }
+
+    /**
+     * Tests this instance for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof ParetoCut)) {
+            return false;
+        }
+        ParetoCut that = (ParetoCut) obj;
+        return this.index == that.index && this.key.equals(that.key)
+                && this.itemCount == that.itemCount
+                && Double.doubleToLongBits(this.cumulativePercentage)
+                == Double.doubleToLongBits(that.cumulativePercentage);
+    }
+
+    /**
+     * Returns a hash code.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result = this.index;
+        result = 29 * result + this.key.hashCode();
+        result = 29 * result + this.itemCount;
+        return result;
+    }
+
+    /**
+     * Returns a string representing the cut, for debugging.
+     *
+     * @return A string.
+     */
+    @Override
+    public String toString() {
+        return "ParetoCut[key=" + this.key + ", index=" + this.index
+                + ", itemCount=" + this.itemCount + ", cumulativePercentage="
+                + this.cumulativePercentage + "]";
+    }
+
+}
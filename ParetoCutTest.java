@@ -0,0 +1,103 @@
+package org.jfree.data;
+
+import static org.junit.Assert.*;
+import java.util.Random;
+import org.jfree.util.SortOrder;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author group17
+ *
+ */
+
+public class ParetoCutTest {
+
+    private DefaultKeyedValues data;
+
+    @Before
+    public void setUp() {
+        this.data = new DefaultKeyedValues();
+        this.data.addValue("A", 10.0);
+        this.data.addValue("B", 50.0);
+        this.data.addValue("C", (Number) null);
+        this.data.addValue("D", 30.0);
+        this.data.addValue("E", 10.0);
+    }
+
+// ---------------- METHOD BEING TESTED: findParetoCut() ---------------- //
+
+    /**
+     * Purpose: Verifies that the cut is the first item whose cumulative percentage reaches the threshold.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testFindParetoCut() {
+        ParetoCut cut = PrimitiveDataUtilities.findParetoCut(this.data, 0.8);
+        assertEquals("D", cut.getKey());
+        assertEquals(3, cut.getIndex());
+        assertEquals(4, cut.getItemCount());
+        assertEquals(0.9, cut.getCumulativePercentage(), .000000001d);
+        assertEquals(0, PrimitiveDataUtilities.findParetoCut(this.data, 0.0).getIndex());
+    }
+
+    /**
+     * Purpose: Verifies that a threshold above one, an empty collection and a NaN total give no cut.
+     * Type of tests involved: boundary value testing
+     */
+    @Test
+    public void testFindParetoCutNotReached() {
+        assertNull(PrimitiveDataUtilities.findParetoCut(this.data, 1.01));
+        assertNull(PrimitiveDataUtilities.findParetoCut(new DefaultKeyedValues(), 0.5));
+        this.data.addValue("F", Double.NaN);
+        assertNull(PrimitiveDataUtilities.findParetoCut(this.data, 0.5));
+        assertNull(PrimitiveDataUtilities.findParetoCutByValue(this.data, 0.5));
+    }
+
+// ---------------- METHOD BEING TESTED: findParetoCutByValue() ---------------- //
+
+    /**
+     * Purpose: Verifies that items are taken in descending order of value, with ties in their original order.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testFindParetoCutByValue() {
+        ParetoCut cut = PrimitiveDataUtilities.findParetoCutByValue(this.data, 0.8);
+        assertEquals("D", cut.getKey());
+        assertEquals(3, cut.getIndex());
+        assertEquals(2, cut.getItemCount());
+        assertEquals(0.8, cut.getCumulativePercentage(), .000000001d);
+        cut = PrimitiveDataUtilities.findParetoCutByValue(this.data, 0.85);
+        assertEquals("A", cut.getKey());
+        assertEquals(3, cut.getItemCount());
+        assertEquals("E", PrimitiveDataUtilities.findParetoCutByValue(this.data, 1.0).getKey());
+        assertEquals(4, PrimitiveDataUtilities.findParetoCutByValue(this.data, 1.0).getItemCount());
+    }
+
+    /**
+     * Purpose: Verifies that the cut matches a full descending sort for random data with many ties.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testFindParetoCutByValueMatchesSort() throws CloneNotSupportedException {
+        Random random = new Random(17L);
+        DefaultFloatKeyedValues values = new DefaultFloatKeyedValues();
+        for (int i = 0; i < 2000; i++) {
+            values.addValue("K" + i, (random.nextInt(10) == 0) ? null : new Double(random.nextInt(50)));
+        }
+        DefaultKeyedValues sorted = new DefaultKeyedValues();
+        for (int i = 0; i < values.getItemCount(); i++) {
+            sorted.addValue(values.getKey(i), values.getValue(i));
+        }
+        sorted.sortByValues(SortOrder.DESCENDING);
+        double[] thresholds = {0.0, 0.2, 0.5, 0.8, 0.95, 1.0};
+        for (int t = 0; t < thresholds.length; t++) {
+            ParetoCut expected = PrimitiveDataUtilities.findParetoCut(sorted, thresholds[t]);
+            ParetoCut actual = PrimitiveDataUtilities.findParetoCutByValue(values, thresholds[t]);
+            assertEquals(expected.getKey(), actual.getKey());
+            assertEquals(expected.getItemCount(), actual.getItemCount());
+            assertEquals(values.getIndex(expected.getKey()), actual.getIndex());
+        }
+    }
+
+}
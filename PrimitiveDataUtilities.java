@@ -0,0 +1,949 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * PrimitiveDataUtilities.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  Group 17;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G17);
+ * 18-Oct-2026 : Added bulk row and column totals (G17);
+ * 18-Oct-2026 : Added createNumberList() and createValues2D() views (G17);
+ * 18-Oct-2026 : Added getCumulativePercentages(KeyedValues, double[]) (G17);
+ * 18-Oct-2026 : Added BitSet mask total overloads (G17);
+ * 18-Oct-2026 : Use the stored-cell totals of SparseValues2D (G17);
+ * 18-Oct-2026 : Read DoubleKeyedValues as primitives (G17);
+ * 18-Oct-2026 : Added grouped column totals (G17);
+ * 18-Oct-2026 : Added findParetoCut() and findParetoCutByValue() (G17);
+ * 18-Oct-2026 : Read MappedValues2D totals in bulk (G17);
+ * 18-Oct-2026 : Use the running column totals of RollingValues2D (G17);
+ *
+ */
+
+package org.jfree.data;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * Counterparts to the table methods in {@link DataUtilities} that read
+ * {@link DoubleValues2D} tables as primitives, without creating a
+ * {@link Number} per cell.  Any other {@link Values2D} is passed straight
+ * to {@link DataUtilities}, so the results are always the same as those of
+ * the corresponding <code>DataUtilities</code> method (<code>null</code>
+ * cells are skipped, and the values are added in index order).  The one
+ * exception is the column totals of a {@link RollingValues2D}, which are
+ * read from its running totals in O(1) time and may differ in the last
+ * bits.
+ */
+public abstract class PrimitiveDataUtilities {
+
+    /**
+     * Returns the total of the values in one column of the supplied data
+     * table.
+     *
+     * @param data  the table of values (<code>null</code> not permitted).
+     * @param column  the column index (zero-based).
+     *
+     * @return The total of the values in the specified column.
+     *
+     * @see DataUtilities#calculateColumnTotal(Values2D, int)
+     */
+    public static double calculateColumnTotal(Values2D data, int column) {
+        ParamChecks.nullNotPermitted(data, "data");
+        if (data instanceof SparseValues2D) {
+            return ((SparseValues2D) data).getColumnTotal(column);
+        }
+        if (data instanceof MappedValues2D) {
+            return ((MappedValues2D) data).getColumnTotal(column);
+        }
+        if (data instanceof RollingValues2D) {
+            return ((RollingValues2D) data).getColumnTotal(column);
+        }
+        if (!(data instanceof DoubleValues2D)) {
+            return DataUtilities.calculateColumnTotal(data, column);
+        }
+        DoubleValues2D d = (DoubleValues2D) data;
+        double total = 0.0;
+        int rowCount = d.getRowCount();
+        for (int r = 0; r < rowCount; r++) {
+            double v = d.getDoubleValue(r, column);
+            if (!Double.isNaN(v) || !d.isNull(r, column)) {
+                total += v;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns the total of the values in one column of the supplied data
+     * table by taking only the row numbers in the array into account.
+     *
+     * @param data  the table of values (<code>null</code> not permitted).
+     * @param column  the column index (zero-based).
+     * @param validRows the array with valid rows (zero-based).
+     *
+     * @return The total of the valid values in the specified column.
+     *
+     * @see DataUtilities#calculateColumnTotal(Values2D, int, int[])
+     */
+    public static double calculateColumnTotal(Values2D data, int column,
+            int[] validRows) {
+        ParamChecks.nullNotPermitted(data, "data");
+        if (data instanceof SparseValues2D) {
+            return ((SparseValues2D) data).getColumnTotal(column, validRows);
+        }
+        if (!(data instanceof DoubleValues2D)) {
+            return DataUtilities.calculateColumnTotal(data, column, validRows);
+        }
+        DoubleValues2D d = (DoubleValues2D) data;
+        double total = 0.0;
+        int rowCount = d.getRowCount();
+        for (int v = 0; v < validRows.length; v++) {
+            int row = validRows[v];
+            if (row < rowCount) {
+                double x = d.getDoubleValue(row, column);
+                if (!Double.isNaN(x) || !d.isNull(row, column)) {
+                    total += x;
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns the total of the values in one row of the supplied data
+     * table.
+     *
+     * @param data  the table of values (<code>null</code> not permitted).
+     * @param row  the row index (zero-based).
+     *
+     * @return The total of the values in the specified row.
+     *
+     * @see DataUtilities#calculateRowTotal(Values2D, int)
+     */
+    public static double calculateRowTotal(Values2D data, int row) {
+        ParamChecks.nullNotPermitted(data, "data");
+        if (data instanceof SparseValues2D) {
+            return ((SparseValues2D) data).getRowTotal(row);
+        }
+        if (data instanceof MappedValues2D) {
+            return ((MappedValues2D) data).getRowTotal(row);
+        }
+        if (!(data instanceof DoubleValues2D)) {
+            return DataUtilities.calculateRowTotal(data, row);
+        }
+        DoubleValues2D d = (DoubleValues2D) data;
+        double total = 0.0;
+        int columnCount = d.getColumnCount();
+        for (int c = 0; c < columnCount; c++) {
+            double v = d.getDoubleValue(row, c);
+            if (!Double.isNaN(v) || !d.isNull(row, c)) {
+                total += v;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns the total of the values in one row of the supplied data
+     * table by taking only the column numbers in the array into account.
+     *
+     * @param data  the table of values (<code>null</code> not permitted).
+     * @param row  the row index (zero-based).
+     * @param validCols the array with valid cols (zero-based).
+     *
+     * @return The total of the valid values in the specified row.
+     *
+     * @see DataUtilities#calculateRowTotal(Values2D, int, int[])
+     */
+    public static double calculateRowTotal(Values2D data, int row,
+            int[] validCols) {
+        ParamChecks.nullNotPermitted(data, "data");
+        if (data instanceof SparseValues2D) {
+            return ((SparseValues2D) data).getRowTotal(row, validCols);
+        }
+        if (!(data instanceof DoubleValues2D)) {
+            return DataUtilities.calculateRowTotal(data, row, validCols);
+        }
+        DoubleValues2D d = (DoubleValues2D) data;
+        double total = 0.0;
+        int colCount = d.getColumnCount();
+        for (int v = 0; v < validCols.length; v++) {
+            int col = validCols[v];
+            if (col < colCount) {
+                double x = d.getDoubleValue(row, col);
+                if (!Double.isNaN(x) || !d.isNull(row, col)) {
+                    total += x;
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns the totals of every column in the supplied data table.  The
+     * table is read in a single pass, and each total is exactly the value
+     * that {@link #calculateColumnTotal(Values2D, int)} returns for that
+     * column.
+     *
+     * @param data  the table of values (<code>null</code> not permitted).
+     *
+     * @return An array holding one total per column.
+     */
+    public static double[] calculateColumnTotals(Values2D data) {
+        ParamChecks.nullNotPermitted(data, "data");
+        double[] columnTotals = new double[data.getColumnCount()];
+        calculateTotals(data, null, columnTotals);
+        return columnTotals;
+    }
+
+    /**
+     * Returns the totals of every row in the supplied data table.  The
+     * table is read in a single pass, and each total is exactly the value
+     * that {@link #calculateRowTotal(Values2D, int)} returns for that row.
+     *
+     * @param data  the table of values (<code>null</code> not permitted).
+     *
+     * @return An array holding one total per row.
+     */
+    public static double[] calculateRowTotals(Values2D data) {
+        ParamChecks.nullNotPermitted(data, "data");
+        double[] rowTotals = new double[data.getRowCount()];
+        calculateTotals(data, rowTotals, null);
+        return rowTotals;
+    }
+
+    /**
+     * Calculates the row totals and the column totals of the supplied data
+     * table in a single pass over the cells.  <code>null</code> cells are
+     * skipped, and the results are identical to calling
+     * {@link #calculateRowTotal(Values2D, int)} and
+     * {@link #calculateColumnTotal(Values2D, int)} for every row and column.
+     *
+     * @param data  the table of values (<code>null</code> not permitted).
+     * @param rowTotals  receives the row totals (<code>null</code> permitted
+     *     if row totals are not required, otherwise the length must be at
+     *     least the row count).
+     * @param columnTotals  receives the column totals (<code>null</code>
+     *     permitted if column totals are not required, otherwise the length
+     *     must be at least the column count).
+     */
+    public static void calculateTotals(Values2D data, double[] rowTotals,
+            double[] columnTotals) {
+        ParamChecks.nullNotPermitted(data, "data");
+        int rowCount = data.getRowCount();
+        int columnCount = data.getColumnCount();
+        if (rowTotals != null) {
+            checkLength(rowTotals, rowCount, "rowTotals");
+            Arrays.fill(rowTotals, 0, rowCount, 0.0);
+        }
+        if (columnTotals != null) {
+            checkLength(columnTotals, columnCount, "columnTotals");
+            Arrays.fill(columnTotals, 0, columnCount, 0.0);
+        }
+        if (data instanceof SparseValues2D) {
+            ((SparseValues2D) data).getTotals(rowTotals, columnTotals);
+            return;
+        }
+        if (data instanceof MappedValues2D) {
+            ((MappedValues2D) data).getTotals(rowTotals, columnTotals);
+            return;
+        }
+        if (data instanceof RollingValues2D && rowTotals == null) {
+            ((RollingValues2D) data).getColumnTotals(columnTotals);
+            return;
+        }
+        DoubleValues2D d = (data instanceof DoubleValues2D)
+                ? (DoubleValues2D) data : null;
+        for (int r = 0; r < rowCount; r++) {
+            double rowTotal = 0.0;
+            for (int c = 0; c < columnCount; c++) {
+                double v;
+                if (d != null) {
+                    v = d.getDoubleValue(r, c);
+                    if (Double.isNaN(v) && d.isNull(r, c)) {
+                        continue;
+                    }
+                }
+                else {
+                    Number n = data.getValue(r, c);
+                    if (n == null) {
+                        continue;
+                    }
+                    v = n.doubleValue();
+                }
+                rowTotal += v;
+                if (columnTotals != null) {
+                    columnTotals[c] += v;
+                }
+            }
+            if (rowTotals != null) {
+                rowTotals[r] = rowTotal;
+            }
+        }
+    }
+
+    /**
+     * Returns the total of the values in one column of the supplied data
+     * table, taking only the rows whose bits are set in a mask into
+     * account.  Bits at or beyond the row count are ignored.  The result is
+     * the same as {@link #calculateColumnTotal(Values2D, int, int[])} with
+     * the set bits listed in ascending order.
+     *
+     * @param data  the table of values (<code>null</code> not permitted).
+     * @param column  the column index (zero-based).
+     * @param validRows  the mask of valid rows (<code>null</code> not
+     *     permitted).
+     *
+     * @return The total of the valid values in the specified column.
+     */
+    public static double calculateColumnTotal(Values2D data, int column,
+            BitSet validRows) {
+        ParamChecks.nullNotPermitted(data, "data");
+        ParamChecks.nullNotPermitted(validRows, "validRows");
+        if (data instanceof SparseValues2D) {
+            return ((SparseValues2D) data).getColumnTotal(column, validRows);
+        }
+        double total = 0.0;
+        int rowCount = data.getRowCount();
+        for (int start = validRows.nextSetBit(0);
+                start >= 0 && start < rowCount;
+                start = validRows.nextSetBit(start)) {
+            int end = Math.min(validRows.nextClearBit(start), rowCount);
+            total = addCells(data, column, true, start, end, total);
+            start = end;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the totals of every column in the supplied data table, taking
+     * only the rows whose bits are set in a mask into account.  The table
+     * is read once, a run of consecutive set bits at a time, and each total
+     * is the value that
+     * {@link #calculateColumnTotal(Values2D, int, BitSet)} returns for that
+     * column.
+     *
+     * @param data  the table of values (<code>null</code> not permitted).
+     * @param validRows  the mask of valid rows (<code>null</code> not
+     *     permitted).
+     *
+     * @return An array holding one total per column.
+     */
+    public static double[] calculateColumnTotals(Values2D data,
+            BitSet validRows) {
+        ParamChecks.nullNotPermitted(data, "data");
+        ParamChecks.nullNotPermitted(validRows, "validRows");
+        int rowCount = data.getRowCount();
+        int columnCount = data.getColumnCount();
+        double[] totals = new double[columnCount];
+        if (data instanceof SparseValues2D) {
+            SparseValues2D s = (SparseValues2D) data;
+            for (int c = 0; c < columnCount; c++) {
+                totals[c] = s.getColumnTotal(c, validRows);
+            }
+            return totals;
+        }
+        for (int start = validRows.nextSetBit(0);
+                start >= 0 && start < rowCount;
+                start = validRows.nextSetBit(start)) {
+            int end = Math.min(validRows.nextClearBit(start), rowCount);
+            addRows(data, start, end, totals);
+            start = end;
+        }
+        return totals;
+    }
+
+    /**
+     * Returns the total of the values in one row of the supplied data
+     * table, taking only the columns whose bits are set in a mask into
+     * account.  Bits at or beyond the column count are ignored.  The result
+     * is the same as {@link #calculateRowTotal(Values2D, int, int[])} with
+     * the set bits listed in ascending order.
+     *
+     * @param data  the table of values (<code>null</code> not permitted).
+     * @param row  the row index (zero-based).
+     * @param validCols  the mask of valid columns (<code>null</code> not
+     *     permitted).
+     *
+     * @return The total of the valid values in the specified row.
+     */
+    public static double calculateRowTotal(Values2D data, int row,
+            BitSet validCols) {
+        ParamChecks.nullNotPermitted(data, "data");
+        ParamChecks.nullNotPermitted(validCols, "validCols");
+        if (data instanceof SparseValues2D) {
+            return ((SparseValues2D) data).getRowTotal(row, validCols);
+        }
+        double total = 0.0;
+        int columnCount = data.getColumnCount();
+        for (int start = validCols.nextSetBit(0);
+                start >= 0 && start < columnCount;
+                start = validCols.nextSetBit(start)) {
+            int end = Math.min(validCols.nextClearBit(start), columnCount);
+            total = addCells(data, row, false, start, end, total);
+            start = end;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the column totals for each group of rows in the supplied
+     * table, where the groups are given by a {@link KeyToGroupMap} applied to
+     * the row keys.  The table is read once.  Row <code>g</code> of the
+     * result holds the totals for the group at position <code>g</code> in
+     * <code>map.getGroups()</code>, and each total is the value that
+     * {@link DataUtilities#calculateColumnTotal(Values2D, int, int[])}
+     * returns when given the rows of that group in ascending order.
+     *
+     * @param data  the table of values (<code>null</code> not permitted).
+     * @param map  the map from row keys to groups (<code>null</code> not
+     *     permitted).
+     *
+     * @return An array holding one row of column totals per group.
+     *
+     * @see #calculateGroupedColumnTotals(Values2D, int[], int)
+     */
+    public static double[][] calculateGroupedColumnTotals(KeyedValues2D data,
+            KeyToGroupMap map) {
+        ParamChecks.nullNotPermitted(data, "data");
+        ParamChecks.nullNotPermitted(map, "map");
+        List groups = map.getGroups();
+        Map<Comparable, Integer> groupIndex
+                = new HashMap<Comparable, Integer>();
+        for (int g = 0; g < groups.size(); g++) {
+            groupIndex.put((Comparable) groups.get(g), g);
+        }
+        int rowCount = data.getRowCount();
+        int[] rowGroups = new int[rowCount];
+        for (int r = 0; r < rowCount; r++) {
+            rowGroups[r] = groupIndex.get(map.getGroup(data.getRowKey(r)));
+        }
+        return calculateGroupedColumnTotals(data, rowGroups, groups.size());
+    }
+
+    /**
+     * Returns the column totals for each group of rows in the supplied
+     * table, where the group of each row is given by an index.  The table is
+     * read once, so the cost does not depend on the number of groups.  Each
+     * total is the value that
+     * {@link DataUtilities#calculateColumnTotal(Values2D, int, int[])}
+     * returns when given the rows of that group in ascending order.
+     *
+     * @param data  the table of values (<code>null</code> not permitted).
+     * @param rowGroups  the group index of each row, or a negative value for
+     *     a row that belongs to no group (<code>null</code> not permitted,
+     *     and the length must be at least the row count).
+     * @param groupCount  the number of groups (&gt;= 0).
+     *
+     * @return An array holding one row of column totals per group.
+     */
+    public static double[][] calculateGroupedColumnTotals(Values2D data,
+            int[] rowGroups, int groupCount) {
+        ParamChecks.nullNotPermitted(data, "data");
+        ParamChecks.nullNotPermitted(rowGroups, "rowGroups");
+        if (groupCount < 0) {
+            throw new IllegalArgumentException("Negative group count: "
+                    + groupCount);
+        }
+        int rowCount = data.getRowCount();
+        int columnCount = data.getColumnCount();
+        if (rowGroups.length < rowCount) {
+            throw new IllegalArgumentException("The 'rowGroups' array has "
+                    + "length " + rowGroups.length + ", at least " + rowCount
+                    + " required.");
+        }
+        double[][] totals = new double[groupCount][columnCount];
+        for (int r = 0; r < rowCount; r++) {
+            int g = rowGroups[r];
+            if (g < 0) {
+                continue;
+            }
+            if (g >= groupCount) {
+                throw new IllegalArgumentException("Row " + r
+                        + " has group " + g + ", but there are only "
+                        + groupCount + " groups.");
+            }
+            addRows(data, r, r + 1, totals[g]);
+        }
+        return totals;
+    }
+
+    /**
+     * Adds the non-null values in a run of consecutive cells along one
+     * column or row to a running total, in index order.
+     *
+     * @param data  the table.
+     * @param fixed  the column (for a column run) or row (for a row run).
+     * @param byColumn  a flag that selects a column run or a row run.
+     * @param start  the first row or column of the run (inclusive).
+     * @param end  the last row or column of the run (exclusive).
+     * @param total  the running total.
+     *
+     * @return The updated total.
+     */
+    private static double addCells(Values2D data, int fixed, boolean byColumn,
+            int start, int end, double total) {
+        if (data instanceof DoubleValues2D) {
+            DoubleValues2D d = (DoubleValues2D) data;
+            for (int i = start; i < end; i++) {
+                int r = byColumn ? i : fixed;
+                int c = byColumn ? fixed : i;
+                double v = d.getDoubleValue(r, c);
+                if (!Double.isNaN(v) || !d.isNull(r, c)) {
+                    total += v;
+                }
+            }
+        }
+        else {
+            for (int i = start; i < end; i++) {
+                Number n = byColumn ? data.getValue(i, fixed)
+                        : data.getValue(fixed, i);
+                if (n != null) {
+                    total += n.doubleValue();
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Adds the non-null values in a run of consecutive rows to an array of
+     * column totals.
+     *
+     * @param data  the table.
+     * @param rowStart  the first row (inclusive).
+     * @param rowEnd  the last row (exclusive).
+     * @param totals  the column totals, updated in place.
+     */
+    private static void addRows(Values2D data, int rowStart, int rowEnd,
+            double[] totals) {
+        int columnCount = totals.length;
+        if (data instanceof DoubleValues2D) {
+            DoubleValues2D d = (DoubleValues2D) data;
+            for (int r = rowStart; r < rowEnd; r++) {
+                for (int c = 0; c < columnCount; c++) {
+                    double v = d.getDoubleValue(r, c);
+                    if (!Double.isNaN(v) || !d.isNull(r, c)) {
+                        totals[c] += v;
+                    }
+                }
+            }
+        }
+        else {
+            for (int r = rowStart; r < rowEnd; r++) {
+                for (int c = 0; c < columnCount; c++) {
+                    Number n = data.getValue(r, c);
+                    if (n != null) {
+                        totals[c] += n.doubleValue();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Calculates the cumulative percentages for the data in a
+     * {@link KeyedValues} instance and writes them to an array, in the same
+     * order as the keys of <code>data</code>.  The values are exactly those
+     * returned by {@link DataUtilities#getCumulativePercentages(KeyedValues)},
+     * but no objects are created other than any the source itself creates
+     * when its values are read (none for a {@link DoubleKeyedValues}).
+     *
+     * @param data  the data (<code>null</code> not permitted).
+     * @param result  receives the percentages (<code>null</code> not
+     *     permitted, and the length must be at least the item count).
+     *
+     * @return The number of percentages written (the item count).
+     */
+    public static int getCumulativePercentages(KeyedValues data,
+            double[] result) {
+        ParamChecks.nullNotPermitted(data, "data");
+        ParamChecks.nullNotPermitted(result, "result");
+        int itemCount = data.getItemCount();
+        checkLength(result, itemCount, "result");
+        double total = 0.0;
+        if (data instanceof DoubleKeyedValues) {
+            DoubleKeyedValues d = (DoubleKeyedValues) data;
+            for (int i = 0; i < itemCount; i++) {
+                double v = d.getDoubleValue(i);
+                if (!Double.isNaN(v) || !d.isNull(i)) {
+                    total = total + v;
+                }
+                result[i] = total;
+            }
+        }
+        else {
+            for (int i = 0; i < itemCount; i++) {
+                Number v = data.getValue(i);
+                if (v != null) {
+                    total = total + v.doubleValue();
+                }
+                // keep the running total, the divisor is not known yet
+                result[i] = total;
+            }
+        }
+        for (int i = 0; i < itemCount; i++) {
+            result[i] = result[i] / total;
+        }
+        return itemCount;
+    }
+
+    /**
+     * Returns the first item at which the cumulative percentage of the
+     * supplied data reaches a threshold.  The percentages are those that
+     * {@link DataUtilities#getCumulativePercentages(KeyedValues)} returns,
+     * but they are not stored: the data is read once to find the total and
+     * then only as far as the cut.
+     *
+     * @param data  the data (<code>null</code> not permitted).
+     * @param threshold  the threshold (for example, 0.8).
+     *
+     * @return The cut, or <code>null</code> if no cumulative percentage
+     *     reaches the threshold (which includes an empty collection and a
+     *     total that is zero or NaN).
+     */
+    public static ParetoCut findParetoCut(KeyedValues data,
+            double threshold) {
+        ParamChecks.nullNotPermitted(data, "data");
+        int itemCount = data.getItemCount();
+        DoubleKeyedValues d = (data instanceof DoubleKeyedValues)
+                ? (DoubleKeyedValues) data : null;
+        double total = 0.0;
+        for (int i = 0; i < itemCount; i++) {
+            total = addItem(data, d, i, total);
+        }
+        double runningTotal = 0.0;
+        for (int i = 0; i < itemCount; i++) {
+            runningTotal = addItem(data, d, i, runningTotal);
+            double percentage = runningTotal / total;
+            if (percentage >= threshold) {
+                return new ParetoCut(i, data.getKey(i), i + 1, percentage);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the item at which the cumulative percentage of the supplied
+     * data, taken in descending order of value, first reaches a threshold.
+     * This gives the same cut as sorting a copy of the data with
+     * {@link DefaultKeyedValues#sortByValues(org.jfree.util.SortOrder)}
+     * (descending, with equal values kept in their original order and
+     * <code>null</code> values last) and calling
+     * {@link #findParetoCut(KeyedValues, double)}, but the values are read
+     * once into primitive arrays and only the items up to the cut are put
+     * in order, using a heap: O(n + k log n) time for a cut after k items.
+     * The grand total is accumulated in the original item order, so the
+     * reported percentage may differ in the last bit from one calculated
+     * over the sorted copy.
+     *
+     * @param data  the data (<code>null</code> not permitted).
+     * @param threshold  the threshold (for example, 0.8).
+     *
+     * @return The cut (with {@link ParetoCut#getIndex()} giving the index of
+     *     the item in <code>data</code>), or <code>null</code> if no
+     *     cumulative percentage reaches the threshold.
+     */
+    public static ParetoCut findParetoCutByValue(KeyedValues data,
+            double threshold) {
+        ParamChecks.nullNotPermitted(data, "data");
+        int itemCount = data.getItemCount();
+        DoubleKeyedValues d = (data instanceof DoubleKeyedValues)
+                ? (DoubleKeyedValues) data : null;
+        double[] values = new double[itemCount];
+        int[] items = new int[itemCount];
+        int n = 0;
+        double total = 0.0;
+        for (int i = 0; i < itemCount; i++) {
+            double v;
+            if (d != null) {
+                v = d.getDoubleValue(i);
+                if (Double.isNaN(v) && d.isNull(i)) {
+                    continue;
+                }
+            }
+            else {
+                Number number = data.getValue(i);
+                if (number == null) {
+                    continue;
+                }
+                v = number.doubleValue();
+            }
+            values[n] = v;
+            items[n] = i;
+            n++;
+            total = total + v;
+        }
+        if (n == 0 || Double.isNaN(total)) {
+            // every percentage would be NaN (and NaN values cannot be ordered)
+            return null;
+        }
+
+        // a max-heap of positions in 'values', ordered by descending value
+        // and then by ascending position (the order of a stable sort)
+        int[] heap = new int[n];
+        for (int p = 0; p < n; p++) {
+            heap[p] = p;
+        }
+        for (int p = n / 2 - 1; p >= 0; p--) {
+            siftDown(heap, p, n, values);
+        }
+        double runningTotal = 0.0;
+        for (int size = n; size > 0; size--) {
+            int top = heap[0];
+            runningTotal = runningTotal + values[top];
+            double percentage = runningTotal / total;
+            if (percentage >= threshold) {
+                return new ParetoCut(items[top], data.getKey(items[top]),
+                        n - size + 1, percentage);
+            }
+            heap[0] = heap[size - 1];
+            siftDown(heap, 0, size - 1, values);
+        }
+        return null;
+    }
+
+    /**
+     * Adds the value of one item, if it is not <code>null</code>, to a
+     * running total.
+     *
+     * @param data  the data.
+     * @param d  the data as a {@link DoubleKeyedValues}, or
+     *     <code>null</code>.
+     * @param item  the item index.
+     * @param total  the running total.
+     *
+     * @return The updated total.
+     */
+    private static double addItem(KeyedValues data, DoubleKeyedValues d,
+            int item, double total) {
+        if (d != null) {
+            double v = d.getDoubleValue(item);
+            if (!Double.isNaN(v) || !d.isNull(item)) {
+                total = total + v;
+            }
+            return total;
+        }
+        Number v = data.getValue(item);
+        if (v != null) {
+            total = total + v.doubleValue();
+        }
+        return total;
+    }
+
+    /**
+     * Restores the heap order below one node of a heap of positions.
+     *
+     * @param heap  the heap.
+     * @param node  the node.
+     * @param size  the number of positions in the heap.
+     * @param values  the values, indexed by position.
+     */
+    private static void siftDown(int[] heap, int node, int size,
+            double[] values) {
+        int p = heap[node];
+        while (true) {
+            int child = 2 * node + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size
+                    && precedes(heap[child + 1], heap[child], values)) {
+                child++;
+            }
+            if (!precedes(heap[child], p, values)) {
+                break;
+            }
+            heap[node] = heap[child];
+            node = child;
+        }
+        heap[node] = p;
+    }
+
+    /**
+     * Returns <code>true</code> if the value at position <code>a</code>
+     * comes before the value at position <code>b</code> in descending order,
+     * with ties broken by position.
+     *
+     * @param a  the first position.
+     * @param b  the second position.
+     * @param values  the values, indexed by position.
+     *
+     * @return A boolean.
+     */
+    private static boolean precedes(int a, int b, double[] values) {
+        return values[a] > values[b] || (values[a] == values[b] && a < b);
+    }
+
+    /**
+     * Returns a read-only list view of an array of <code>double</code>
+     * primitives.  Unlike {@link DataUtilities#createNumberArray(double[])}
+     * nothing is copied: a <code>Double</code> is created only when an
+     * element is read, and later changes to the array are visible through
+     * the view.
+     *
+     * @param data  the data (<code>null</code> not permitted).
+     *
+     * @return A list of <code>Double</code>.
+     */
+    public static List<Number> createNumberList(double[] data) {
+        ParamChecks.nullNotPermitted(data, "data");
+        return new DoubleArrayList(data);
+    }
+
+    /**
+     * Returns a read-only table view of an array of arrays of
+     * <code>double</code> primitives, with one row per inner array.  Nothing
+     * is copied, and the cells can be read as primitives (for example by
+     * {@link #calculateColumnTotal(Values2D, int)}) without creating any
+     * objects.  The column count is the length of the longest row; cells
+     * past the end of a shorter row are <code>null</code>.
+     *
+     * @param data  the data (<code>null</code> not permitted, and no row may
+     *     be <code>null</code>).
+     *
+     * @return A table view.
+     *
+     * @see DataUtilities#createNumberArray2D(double[][])
+     */
+    public static DoubleValues2D createValues2D(double[][] data) {
+        ParamChecks.nullNotPermitted(data, "data");
+        int columnCount = 0;
+        for (int r = 0; r < data.length; r++) {
+            ParamChecks.nullNotPermitted(data[r], "data[" + r + "]");
+            columnCount = Math.max(columnCount, data[r].length);
+        }
+        return new DoubleArrayValues2D(data, columnCount);
+    }
+
+    /**
+     * Checks that an output array is long enough.
+     *
+     * @param array  the array.
+     * @param required  the required length.
+     * @param name  the parameter name (for the exception message).
+     */
+    private static void checkLength(double[] array, int required,
+            String name) {
+        if (array.length < required) {
+            throw new IllegalArgumentException("The '" + name
+                    + "' array has length " + array.length + ", at least "
+                    + required + " required.");
+        }
+    }
+
+    /**
+     * A read-only list view of a <code>double[]</code>.
+     */
+    private static final class DoubleArrayList extends AbstractList<Number>
+            implements RandomAccess {
+
+        /** The backing array. */
+        private final double[] data;
+
+        DoubleArrayList(double[] data) {
+            this.data = data;
+        }
+
+        @Override
+        public Number get(int index) {
+            return new Double(this.data[index]);
+        }
+
+        @Override
+        public int size() {
+            return this.data.length;
+        }
+
+    }
+
+    /**
+     * A read-only table view of a <code>double[][]</code>.
+     */
+    private static final class DoubleArrayValues2D implements DoubleValues2D {
+
+        /** The backing array, one inner array per row. */
+        private final double[][] data;
+
+        /** The length of the longest row. */
+        private final int columnCount;
+
+        DoubleArrayValues2D(double[][] data, int columnCount) {
+            this.data = data;
+            this.columnCount = columnCount;
+        }
+
+        @Override
+        public int getRowCount() {
+            return this.data.length;
+        }
+
+        @Override
+        public int getColumnCount() {
+            return this.columnCount;
+        }
+
+        @Override
+        public Number getValue(int row, int column) {
+            if (isNull(row, column)) {
+                return null;
+            }
+            return new Double(this.data[row][column]);
+        }
+
+        @Override
+        public double getDoubleValue(int row, int column) {
+            if (isNull(row, column)) {
+                return Double.NaN;
+            }
+            return this.data[row][column];
+        }
+
+        @Override
+        public boolean isNull(int row, int column) {
+            if (column < 0 || column >= this.columnCount) {
+                throw new IndexOutOfBoundsException(
+                        "Column index out of bounds: " + column);
+            }
+            return column >= this.data[row].length;
+        }
+
+    }
+
+}
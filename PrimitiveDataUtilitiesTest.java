@@ -0,0 +1,358 @@
+package org.jfree.data;
+
+import static org.junit.Assert.*;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author group17
+ *
+ */
+
+public class PrimitiveDataUtilitiesTest {
+
+    private static final double[][] DATA = {
+        {1.5, 2.5, -3.0},
+        {4.0, Double.NaN, 6.25},
+        {7.0, 8.0, 9.5}
+    };
+
+    private DefaultDoubleValues2D primitive;
+
+    private DefaultKeyedValues2D boxed;
+
+    @Before
+    public void setUp() {
+        this.primitive = new DefaultDoubleValues2D(DATA);
+        this.primitive.setValue(2, 1, (Number) null);
+        this.boxed = new DefaultKeyedValues2D();
+        for (int r = 0; r < DATA.length; r++) {
+            for (int c = 0; c < DATA[r].length; c++) {
+                this.boxed.addValue(this.primitive.getValue(r, c), "R" + r,
+                        "C" + c);
+            }
+        }
+    }
+
+// ---------------- METHOD BEING TESTED: calculateColumnTotal() ---------------- //
+
+    /**
+     * Purpose: Verifies that column totals over a primitive table match the totals DataUtilities computes over boxed values.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testCalculateColumnTotalMatchesDataUtilities() {
+        for (int c = 0; c < 3; c++) {
+            assertEquals("Column " + c, DataUtilities.calculateColumnTotal(this.boxed, c),
+                    PrimitiveDataUtilities.calculateColumnTotal(this.primitive, c), 0.0);
+        }
+        assertEquals(12.75, PrimitiveDataUtilities.calculateColumnTotal(this.primitive, 2), .000000001d);
+    }
+
+    /**
+     * Purpose: Verifies that a stored NaN is added to the total while a null cell is skipped.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testCalculateColumnTotalNaNIsNotNull() {
+        assertTrue(Double.isNaN(PrimitiveDataUtilities.calculateColumnTotal(this.primitive, 1)));
+        this.primitive.setValue(1, 1, (Number) null);
+        assertEquals(2.5, PrimitiveDataUtilities.calculateColumnTotal(this.primitive, 1), .000000001d);
+    }
+
+    /**
+     * Purpose: Verifies the valid rows overload ignores rows beyond the row count.
+     * Type of tests involved: boundary value testing
+     */
+    @Test
+    public void testCalculateColumnTotalValidRows() {
+        int[] rows = {0, 2, 3, 7};
+        assertEquals(DataUtilities.calculateColumnTotal(this.boxed, 0, rows),
+                PrimitiveDataUtilities.calculateColumnTotal(this.primitive, 0, rows), 0.0);
+        assertEquals(8.5, PrimitiveDataUtilities.calculateColumnTotal(this.primitive, 0, rows), .000000001d);
+    }
+
+    /**
+     * Purpose: Verifies that an invalid column index is reported as an exception.
+     * Type of tests involved: exception testing
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testCalculateColumnTotalInvalidColumnIndex() {
+        PrimitiveDataUtilities.calculateColumnTotal(this.primitive, 3);
+    }
+
+    /**
+     * Purpose: Verifies that a null data table is rejected.
+     * Type of tests involved: exception testing
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testCalculateColumnTotalNullDataTable() {
+        PrimitiveDataUtilities.calculateColumnTotal(null, 0);
+    }
+
+// ---------------- METHOD BEING TESTED: calculateRowTotal() ---------------- //
+
+    /**
+     * Purpose: Verifies that row totals over a primitive table match the totals DataUtilities computes over boxed values.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testCalculateRowTotalMatchesDataUtilities() {
+        for (int r = 0; r < 3; r++) {
+            double expected = DataUtilities.calculateRowTotal(this.boxed, r);
+            assertEquals("Row " + r, Double.doubleToLongBits(expected), Double.doubleToLongBits(
+                    PrimitiveDataUtilities.calculateRowTotal(this.primitive, r)));
+        }
+        assertEquals(16.5, PrimitiveDataUtilities.calculateRowTotal(this.primitive, 2), .000000001d);
+    }
+
+    /**
+     * Purpose: Verifies the valid columns overload ignores columns beyond the column count.
+     * Type of tests involved: boundary value testing
+     */
+    @Test
+    public void testCalculateRowTotalValidCols() {
+        int[] cols = {2, 0, 5};
+        assertEquals(DataUtilities.calculateRowTotal(this.boxed, 0, cols),
+                PrimitiveDataUtilities.calculateRowTotal(this.primitive, 0, cols), 0.0);
+        assertEquals(-1.5, PrimitiveDataUtilities.calculateRowTotal(this.primitive, 0, cols), .000000001d);
+    }
+
+    /**
+     * Purpose: Verifies that tables other than DoubleValues2D are delegated to DataUtilities.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testCalculateRowTotalBoxedTable() {
+        assertEquals(16.5, PrimitiveDataUtilities.calculateRowTotal(this.boxed, 2), .000000001d);
+    }
+
+// ---------------- METHOD BEING TESTED: calculateTotals() ---------------- //
+
+    /**
+     * Purpose: Verifies that the bulk column and row totals equal the single column and row totals, bit for bit.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testCalculateTotalsMatchesSingleTotals() {
+        double[] rowTotals = new double[3];
+        double[] columnTotals = new double[3];
+        PrimitiveDataUtilities.calculateTotals(this.boxed, rowTotals, columnTotals);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Double.doubleToLongBits(DataUtilities.calculateRowTotal(this.boxed, i)),
+                    Double.doubleToLongBits(rowTotals[i]));
+            assertEquals(Double.doubleToLongBits(DataUtilities.calculateColumnTotal(this.boxed, i)),
+                    Double.doubleToLongBits(columnTotals[i]));
+        }
+        assertArrayEquals(columnTotals, PrimitiveDataUtilities.calculateColumnTotals(this.primitive), 0.0);
+        assertArrayEquals(rowTotals, PrimitiveDataUtilities.calculateRowTotals(this.primitive), 0.0);
+    }
+
+    /**
+     * Purpose: Verifies that the column totals of a rolling window come from its running totals.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testRollingValues2DColumnTotals() {
+        RollingValues2D table = new RollingValues2D(2, 2);
+        table.appendRow(new double[] {1.0, 2.0});
+        table.appendRow(new double[] {3.0, Double.POSITIVE_INFINITY});
+        table.appendRow(new double[] {5.0, 6.0});
+        assertEquals(table.getColumnTotal(0), PrimitiveDataUtilities.calculateColumnTotal(table, 0), 0.0);
+        assertArrayEquals(new double[] {8.0, Double.POSITIVE_INFINITY},
+                PrimitiveDataUtilities.calculateColumnTotals(table), 0.0);
+        double[] rowTotals = new double[2];
+        PrimitiveDataUtilities.calculateTotals(table, rowTotals, null);
+        assertArrayEquals(new double[] {Double.POSITIVE_INFINITY, 11.0}, rowTotals, 0.0);
+    }
+
+    /**
+     * Purpose: Verifies that an empty table produces empty total arrays.
+     * Type of tests involved: boundary value testing
+     */
+    @Test
+    public void testCalculateColumnTotalsEmptyDataTable() {
+        assertEquals(0, PrimitiveDataUtilities.calculateColumnTotals(new DefaultKeyedValues2D()).length);
+        assertEquals(0, PrimitiveDataUtilities.calculateRowTotals(new DefaultDoubleValues2D(0, 0)).length);
+    }
+
+    /**
+     * Purpose: Verifies that an output array shorter than the table is rejected.
+     * Type of tests involved: exception testing
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testCalculateTotalsShortOutputArray() {
+        PrimitiveDataUtilities.calculateTotals(this.primitive, new double[2], null);
+    }
+
+// ---------------- METHOD BEING TESTED: createNumberList() ---------------- //
+
+    /**
+     * Purpose: Verifies that the list view holds the same values as createNumberArray() and tracks changes to the array.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testCreateNumberListValidInput() {
+        double[] data = {1.0, -2.5, Double.NaN};
+        List<Number> list = PrimitiveDataUtilities.createNumberList(data);
+        assertEquals(Arrays.asList(DataUtilities.createNumberArray(data)), list);
+        data[0] = 4.0;
+        assertEquals(4.0, list.get(0).doubleValue(), .000000001d);
+    }
+
+    /**
+     * Purpose: Verifies that the list view cannot be modified.
+     * Type of tests involved: exception testing
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void testCreateNumberListIsReadOnly() {
+        PrimitiveDataUtilities.createNumberList(new double[] {1.0}).set(0, 2.0);
+    }
+
+// ---------------- METHOD BEING TESTED: createValues2D() ---------------- //
+
+    /**
+     * Purpose: Verifies that a jagged array is viewed with null cells past the end of the short rows.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testCreateValues2DJaggedArray() {
+        double[][] data = {{1.0, 2.0, 3.0}, {4.0}};
+        DoubleValues2D values = PrimitiveDataUtilities.createValues2D(data);
+        assertEquals(2, values.getRowCount());
+        assertEquals(3, values.getColumnCount());
+        assertEquals(DataUtilities.createNumberArray2D(data)[1][0], values.getValue(1, 0));
+        assertNull(values.getValue(1, 2));
+        assertEquals(2.0, PrimitiveDataUtilities.calculateColumnTotal(values, 1), .000000001d);
+        assertEquals(5.0, PrimitiveDataUtilities.calculateColumnTotal(values, 0), .000000001d);
+    }
+
+    /**
+     * Purpose: Verifies that a null row is rejected.
+     * Type of tests involved: exception testing
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreateValues2DNullRow() {
+        PrimitiveDataUtilities.createValues2D(new double[][] {{1.0}, null});
+    }
+
+// ---------------- METHOD BEING TESTED: getCumulativePercentages() ---------------- //
+
+    /**
+     * Purpose: Verifies that the percentages written to the buffer equal those of DataUtilities, in key order.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testGetCumulativePercentagesIntoBuffer() {
+        DefaultKeyedValues data = new DefaultKeyedValues();
+        data.addValue("0", 5.0);
+        data.addValue("1", (Number) null);
+        data.addValue("2", 9.0);
+        data.addValue("3", 2.0);
+        KeyedValues expected = DataUtilities.getCumulativePercentages(data);
+        double[] result = new double[6];
+        assertEquals(4, PrimitiveDataUtilities.getCumulativePercentages(data, result));
+        for (int i = 0; i < 4; i++) {
+            assertEquals(Double.doubleToLongBits(expected.getValue(i).doubleValue()),
+                    Double.doubleToLongBits(result[i]));
+        }
+        assertEquals(0.3125, result[1], .000000001d);
+        assertEquals(0.0, result[4], 0.0);
+    }
+
+    /**
+     * Purpose: Verifies that a buffer shorter than the item count is rejected.
+     * Type of tests involved: exception testing
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetCumulativePercentagesShortBuffer() {
+        DefaultKeyedValues data = new DefaultKeyedValues();
+        data.addValue("0", 5.0);
+        PrimitiveDataUtilities.getCumulativePercentages(data, new double[0]);
+    }
+
+// ---------------- METHOD BEING TESTED: calculateColumnTotal(BitSet) / calculateRowTotal(BitSet) ---------------- //
+
+    /**
+     * Purpose: Verifies that mask totals equal the int[] overloads with the same indices, ignoring bits past the end.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testMaskTotalsMatchIndexArrays() {
+        BitSet mask = new BitSet();
+        mask.set(0);
+        mask.set(2, 6);
+        int[] indices = {0, 2, 3, 4, 5};
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Double.doubleToLongBits(DataUtilities.calculateColumnTotal(this.boxed, i, indices)),
+                    Double.doubleToLongBits(PrimitiveDataUtilities.calculateColumnTotal(this.primitive, i, mask)));
+            assertEquals(Double.doubleToLongBits(DataUtilities.calculateRowTotal(this.boxed, i, indices)),
+                    Double.doubleToLongBits(PrimitiveDataUtilities.calculateRowTotal(this.boxed, i, mask)));
+        }
+    }
+
+    /**
+     * Purpose: Verifies that all column totals under one mask equal the single column mask totals.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testCalculateColumnTotalsWithMask() {
+        BitSet mask = new BitSet();
+        mask.set(1, 3);
+        double[] totals = PrimitiveDataUtilities.calculateColumnTotals(this.boxed, mask);
+        assertEquals(3, totals.length);
+        for (int c = 0; c < 3; c++) {
+            assertEquals(PrimitiveDataUtilities.calculateColumnTotal(this.primitive, c, mask), totals[c], 0.0);
+        }
+        assertEquals(11.0, totals[0], .000000001d);
+        assertArrayEquals(new double[3], PrimitiveDataUtilities.calculateColumnTotals(this.primitive, new BitSet()), 0.0);
+    }
+
+// ---------------- METHOD BEING TESTED: calculateGroupedColumnTotals() ---------------- //
+
+    /**
+     * Purpose: Verifies that the grouped totals follow the order of the map's groups and match the valid rows totals.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testCalculateGroupedColumnTotalsWithMap() {
+        KeyToGroupMap map = new KeyToGroupMap("G0");
+        map.mapKeyToGroup("R0", "G1");
+        map.mapKeyToGroup("R2", "G1");
+        double[][] totals = PrimitiveDataUtilities.calculateGroupedColumnTotals(this.boxed, map);
+        assertEquals(2, totals.length);
+        for (int c = 0; c < 3; c++) {
+            assertEquals(Double.doubleToLongBits(DataUtilities.calculateColumnTotal(this.boxed, c, new int[] {1})),
+                    Double.doubleToLongBits(totals[0][c]));
+            assertEquals(Double.doubleToLongBits(DataUtilities.calculateColumnTotal(this.boxed, c, new int[] {0, 2})),
+                    Double.doubleToLongBits(totals[1][c]));
+        }
+        assertArrayEquals(new double[] {8.5, 2.5, 6.5}, totals[1], .000000001d);
+    }
+
+    /**
+     * Purpose: Verifies that rows with a negative group index are left out and empty groups total zero.
+     * Type of tests involved: boundary value testing
+     */
+    @Test
+    public void testCalculateGroupedColumnTotalsWithIndices() {
+        double[][] totals = PrimitiveDataUtilities.calculateGroupedColumnTotals(this.primitive,
+                new int[] {2, -1, 2}, 3);
+        assertArrayEquals(new double[3], totals[0], 0.0);
+        assertArrayEquals(new double[3], totals[1], 0.0);
+        assertArrayEquals(new double[] {8.5, 2.5, 6.5}, totals[2], .000000001d);
+    }
+
+    /**
+     * Purpose: Verifies that a group index beyond the group count is reported as an exception.
+     * Type of tests involved: exception testing
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testCalculateGroupedColumnTotalsInvalidGroup() {
+        PrimitiveDataUtilities.calculateGroupedColumnTotals(this.primitive, new int[] {0, 1, 2}, 2);
+    }
+
+}
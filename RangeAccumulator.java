@@ -0,0 +1,406 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * RangeAccumulator.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  Group 17;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G17);
+ * 18-Oct-2026 : Added strided and float[] includes (G17);
+ *
+ */
+
+package org.jfree.data;
+
+import java.io.Serializable;
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * A mutable accumulator for the bounds of a set of values and ranges.  The
+ * bounds are held as two primitives, so folding any number of values
+ * creates no objects; a {@link Range} is created only when
+ * {@link #getRange()} is called.
+ * <p>
+ * The result is always the one that folding the same inputs with
+ * {@link Range#combineIgnoringNaN(Range, Range)} would give, where a value
+ * <code>v</code> counts as the range <code>[v, v]</code>: NaN values and NaN
+ * bounds are ignored, and if every bound is NaN there is no range.
+ */
+public class RangeAccumulator implements Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 2704119985313654028L;
+
+    /** The lowest bound so far (NaN if there is none). */
+    private double lower;
+
+    /** The highest bound so far (NaN if there is none). */
+    private double upper;
+
+    /**
+     * Creates a new, empty accumulator.
+     */
+    public RangeAccumulator() {
+        this.lower = Double.NaN;
+        this.upper = Double.NaN;
+    }
+
+    /**
+     * Returns <code>true</code> if nothing other than NaN has been
+     * accumulated, in which case {@link #getRange()} returns
+     * <code>null</code>.
+     *
+     * @return A boolean.
+     */
+    public boolean isEmpty() {
+        return Double.isNaN(this.lower) && Double.isNaN(this.upper);
+    }
+
+    /**
+     * Returns the lowest bound accumulated so far.
+     *
+     * @return The lower bound (<code>Double.NaN</code> if there is none).
+     */
+    public double getLowerBound() {
+        return this.lower;
+    }
+
+    /**
+     * Returns the highest bound accumulated so far.
+     *
+     * @return The upper bound (<code>Double.NaN</code> if there is none).
+     */
+    public double getUpperBound() {
+        return this.upper;
+    }
+
+    /**
+     * Includes a value in the bounds.  NaN is ignored.
+     *
+     * @param value  the value.
+     */
+    public void include(double value) {
+        this.lower = min(this.lower, value);
+        this.upper = max(this.upper, value);
+    }
+
+    /**
+     * Includes every value in an array in the bounds.  NaN values are
+     * ignored.
+     *
+     * @param values  the values (<code>null</code> not permitted).
+     */
+    public void include(double[] values) {
+        ParamChecks.nullNotPermitted(values, "values");
+        include(values, 0, values.length);
+    }
+
+    /**
+     * Includes a slice of an array in the bounds.  NaN values are ignored.
+     *
+     * @param values  the values (<code>null</code> not permitted).
+     * @param offset  the index of the first value.
+     * @param length  the number of values.
+     */
+    public void include(double[] values, int offset, int length) {
+        include(values, offset, length, 1);
+    }
+
+    /**
+     * Includes every <code>stride</code>-th value of an array, starting at
+     * <code>offset</code>, in the bounds (for example, the y-values of an
+     * interleaved x/y buffer have offset 1 and stride 2).  NaN values are
+     * ignored.
+     * <p>
+     * The values are read in a single pass by a loop with two independent
+     * pairs of minimum and maximum accumulators and no calls other than the
+     * <code>Math.min()</code> and <code>Math.max()</code> intrinsics, which
+     * the JIT compiler can unroll and vectorize.  The result is the same as
+     * calling {@link #include(double)} for each value.
+     *
+     * @param values  the values (<code>null</code> not permitted).
+     * @param offset  the index of the first value.
+     * @param count  the number of values.
+     * @param stride  the distance between values (&gt;= 1).
+     */
+    public void include(double[] values, int offset, int count,
+            int stride) {
+        ParamChecks.nullNotPermitted(values, "values");
+        checkStridedSlice(values.length, offset, count, stride);
+        double lo0 = Double.POSITIVE_INFINITY;
+        double lo1 = Double.POSITIVE_INFINITY;
+        double hi0 = Double.NEGATIVE_INFINITY;
+        double hi1 = Double.NEGATIVE_INFINITY;
+        int i = offset;
+        int n = count;
+        for (; n >= 2; n -= 2, i += 2 * stride) {
+            double a = values[i];
+            double b = values[i + stride];
+            // NaN fails 'x == x', so it is skipped
+            if (a == a) {
+                lo0 = Math.min(lo0, a);
+                hi0 = Math.max(hi0, a);
+            }
+            if (b == b) {
+                lo1 = Math.min(lo1, b);
+                hi1 = Math.max(hi1, b);
+            }
+        }
+        if (n == 1) {
+            double a = values[i];
+            if (a == a) {
+                lo0 = Math.min(lo0, a);
+                hi0 = Math.max(hi0, a);
+            }
+        }
+        includeBounds(Math.min(lo0, lo1), Math.max(hi0, hi1));
+    }
+
+    /**
+     * Includes every value in an array in the bounds.  NaN values are
+     * ignored.
+     *
+     * @param values  the values (<code>null</code> not permitted).
+     */
+    public void include(float[] values) {
+        ParamChecks.nullNotPermitted(values, "values");
+        include(values, 0, values.length, 1);
+    }
+
+    /**
+     * Includes every <code>stride</code>-th value of an array, starting at
+     * <code>offset</code>, in the bounds.  NaN values are ignored.  This is
+     * the <code>float</code> counterpart of
+     * {@link #include(double[], int, int, int)}; each value is widened to
+     * <code>double</code> exactly.
+     *
+     * @param values  the values (<code>null</code> not permitted).
+     * @param offset  the index of the first value.
+     * @param count  the number of values.
+     * @param stride  the distance between values (&gt;= 1).
+     */
+    public void include(float[] values, int offset, int count, int stride) {
+        ParamChecks.nullNotPermitted(values, "values");
+        checkStridedSlice(values.length, offset, count, stride);
+        float lo0 = Float.POSITIVE_INFINITY;
+        float lo1 = Float.POSITIVE_INFINITY;
+        float hi0 = Float.NEGATIVE_INFINITY;
+        float hi1 = Float.NEGATIVE_INFINITY;
+        int i = offset;
+        int n = count;
+        for (; n >= 2; n -= 2, i += 2 * stride) {
+            float a = values[i];
+            float b = values[i + stride];
+            if (a == a) {
+                lo0 = Math.min(lo0, a);
+                hi0 = Math.max(hi0, a);
+            }
+            if (b == b) {
+                lo1 = Math.min(lo1, b);
+                hi1 = Math.max(hi1, b);
+            }
+        }
+        if (n == 1) {
+            float a = values[i];
+            if (a == a) {
+                lo0 = Math.min(lo0, a);
+                hi0 = Math.max(hi0, a);
+            }
+        }
+        includeBounds(Math.min(lo0, lo1), Math.max(hi0, hi1));
+    }
+
+    /**
+     * Includes the bounds found by one of the array methods, unless no
+     * value was found (in which case <code>lo</code> is greater than
+     * <code>hi</code>).
+     *
+     * @param lo  the lowest value found.
+     * @param hi  the highest value found.
+     */
+    private void includeBounds(double lo, double hi) {
+        if (lo <= hi) {
+            this.lower = min(this.lower, lo);
+            this.upper = max(this.upper, hi);
+        }
+    }
+
+    /**
+     * Checks that a strided slice lies within an array.
+     *
+     * @param arrayLength  the array length.
+     * @param offset  the index of the first value.
+     * @param count  the number of values.
+     * @param stride  the distance between values.
+     */
+    private static void checkStridedSlice(int arrayLength, int offset,
+            int count, int stride) {
+        if (stride < 1) {
+            throw new IllegalArgumentException("Requires 'stride' >= 1.");
+        }
+        if (offset < 0 || count < 0 || (count > 0 && (offset >= arrayLength
+                || (long) (count - 1) * stride >= arrayLength - offset))) {
+            throw new IndexOutOfBoundsException(count + " values from index "
+                    + offset + " with stride " + stride + " do not fit in an "
+                    + "array of length " + arrayLength);
+        }
+    }
+
+    /**
+     * Includes a range in the bounds.  A <code>null</code> range and NaN
+     * bounds are ignored.
+     *
+     * @param range  the range (<code>null</code> permitted).
+     */
+    public void include(Range range) {
+        if (range != null) {
+            this.lower = min(this.lower, range.getLowerBound());
+            this.upper = max(this.upper, range.getUpperBound());
+        }
+    }
+
+    /**
+     * Includes the bounds of another accumulator in the bounds of this
+     * accumulator (for example, to merge partial results).
+     *
+     * @param other  the other accumulator (<code>null</code> not permitted).
+     */
+    public void include(RangeAccumulator other) {
+        ParamChecks.nullNotPermitted(other, "other");
+        this.lower = min(this.lower, other.lower);
+        this.upper = max(this.upper, other.upper);
+    }
+
+    /**
+     * Returns the accumulated bounds as a range.
+     *
+     * @return The range, or <code>null</code> if the accumulator is empty.
+     */
+    public Range getRange() {
+        if (isEmpty()) {
+            return null;
+        }
+        return new Range(this.lower, this.upper);
+    }
+
+    /**
+     * Empties the accumulator so that it can be reused.
+     */
+    public void reset() {
+        this.lower = Double.NaN;
+        this.upper = Double.NaN;
+    }
+
+    /**
+     * Returns the smaller of two values, ignoring NaN, in the same way as
+     * the private method in {@link Range}.
+     *
+     * @param d1  the first value.
+     * @param d2  the second value.
+     *
+     * @return The minimum.
+     */
+    static double min(double d1, double d2) {
+        if (Double.isNaN(d1)) {
+            return d2;
+        }
+        if (Double.isNaN(d2)) {
+            return d1;
+        }
+        return Math.min(d1, d2);
+    }
+
+    /**
+     * Returns the larger of two values, ignoring NaN, in the same way as
+     * the private method in {@link Range}.
+     *
+     * @param d1  the first value.
+     * @param d2  the second value.
+     *
+     * @return The maximum.
+     */
+    static double max(double d1, double d2) {
+        if (Double.isNaN(d1)) {
+            return d2;
+        }
+        if (Double.isNaN(d2)) {
+            return d1;
+        }
+        return Math.max(d1, d2);
+    }
+
+    /**
+     * Tests this accumulator for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof RangeAccumulator)) {
+            return false;
+        }
+        RangeAccumulator that = (RangeAccumulator) obj;
+        return Double.doubleToLongBits(this.lower)
+                == Double.doubleToLongBits(that.lower)
+                && Double.doubleToLongBits(this.upper)
+                == Double.doubleToLongBits(that.upper);
+    }
+
+    /**
+     * Returns a hash code.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        long temp = Double.doubleToLongBits(this.lower);
+        int result = (int) (temp ^ (temp >>> 32));
+        temp = Double.doubleToLongBits(this.upper);
+        return 29 * result + (int) (temp ^ (temp >>> 32));
+    }
+
+    /**
+     * Returns a string representing the accumulator, for debugging.
+     *
+     * @return A string.
+     */
+    @Override
+    public String toString() {
+        return "RangeAccumulator[" + this.lower + "," + this.upper + "]";
+    }
+
+}
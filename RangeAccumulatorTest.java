@@ -0,0 +1,119 @@
+package org.jfree.data;
+
+import static org.junit.Assert.*;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * @author group17
+ *
+ */
+
+public class RangeAccumulatorTest {
+
+    /**
+     * Checks that two ranges are both null or have identical bounds (Range.equals() is false for NaN bounds).
+     */
+    private static void assertSameBounds(Range expected, Range actual) {
+        if (expected == null) {
+            assertNull(actual);
+            return;
+        }
+        assertEquals(Double.doubleToLongBits(expected.getLowerBound()), Double.doubleToLongBits(actual.getLowerBound()));
+        assertEquals(Double.doubleToLongBits(expected.getUpperBound()), Double.doubleToLongBits(actual.getUpperBound()));
+    }
+
+// ---------------- METHOD BEING TESTED: include() / getRange() ---------------- //
+
+    /**
+     * Purpose: Verifies that a new accumulator is empty and produces no range.
+     * Type of tests involved: boundary value testing
+     */
+    @Test
+    public void testEmpty() {
+        RangeAccumulator acc = new RangeAccumulator();
+        assertTrue(acc.isEmpty());
+        assertNull(acc.getRange());
+        acc.include(Double.NaN);
+        acc.include((Range) null);
+        acc.include(new Range(Double.NaN, Double.NaN));
+        assertNull(acc.getRange());
+    }
+
+    /**
+     * Purpose: Verifies that values, slices and ranges are folded into one range.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testIncludeMixedInputs() {
+        RangeAccumulator acc = new RangeAccumulator();
+        acc.include(3.0);
+        acc.include(new double[] {9.0, -1.0, Double.NaN, 100.0}, 0, 3);
+        acc.include(new Range(2.0, 12.0));
+        assertEquals(new Range(-1.0, 12.0), acc.getRange());
+        acc.reset();
+        acc.include(Double.NEGATIVE_INFINITY);
+        assertEquals(new Range(Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY), acc.getRange());
+    }
+
+    /**
+     * Purpose: Verifies parity with folding combineIgnoringNaN over random ranges, including nulls and NaN bounds.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testMatchesCombineIgnoringNaN() {
+        Random random = new Random(20L);
+        for (int trial = 0; trial < 200; trial++) {
+            RangeAccumulator acc = new RangeAccumulator();
+            Range expected = null;
+            for (int i = 0; i < 10; i++) {
+                Range r;
+                int kind = random.nextInt(5);
+                double a = random.nextInt(20) - 10;
+                if (kind == 0) {
+                    r = null;
+                }
+                else if (kind == 1) {
+                    r = new Range(Double.NaN, Double.NaN);
+                }
+                else if (kind == 2) {
+                    r = new Range(Double.NaN, a);
+                }
+                else {
+                    r = new Range(a, a + random.nextInt(5));
+                }
+                acc.include(r);
+                expected = Range.combineIgnoringNaN(expected, r);
+                assertSameBounds(expected, acc.getRange());
+            }
+        }
+    }
+
+    /**
+     * Purpose: Verifies that merging two partial accumulators equals accumulating everything in one.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testIncludeAccumulator() {
+        RangeAccumulator a = new RangeAccumulator();
+        RangeAccumulator b = new RangeAccumulator();
+        RangeAccumulator all = new RangeAccumulator();
+        double[] values = {4.0, Double.NaN, -2.5, 8.0, 0.0};
+        a.include(values, 0, 2);
+        b.include(values, 2, 3);
+        all.include(values);
+        a.include(b);
+        assertEquals(all, a);
+        assertEquals(new Range(-2.5, 8.0), a.getRange());
+    }
+
+    /**
+     * Purpose: Verifies that a slice outside the array is reported as an exception.
+     * Type of tests involved: exception testing
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIncludeInvalidSlice() {
+        new RangeAccumulator().include(new double[3], 2, 2);
+    }
+
+}
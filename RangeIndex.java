@@ -0,0 +1,584 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------
+ * RangeIndex.java
+ * ---------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  Group 17;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G17);
+ *
+ */
+
+package org.jfree.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * An index over a collection of {@link Range} objects that finds the ranges
+ * containing a value, or intersecting an interval, without testing every
+ * range.  The ranges are held in a balanced (AVL) binary tree ordered by
+ * lower bound, where each node also records the largest upper bound in its
+ * subtree, so that whole subtrees that cannot match are skipped.  Insertion
+ * and removal take O(log n) time, and a query takes O(log n) time plus
+ * O(log n) for each range found in the worst case (much less when the
+ * matching ranges are close together in the tree).  A static collection can
+ * be indexed in one step with {@link #RangeIndex(Collection)}.
+ * <p>
+ * The queries give exactly the results of {@link Range#contains(double)} and
+ * {@link Range#intersects(double, double)}.  A range with a NaN bound cannot
+ * be placed in the tree, so such ranges are kept in a separate list that
+ * every query scans; they are expected to be rare.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class RangeIndex {
+
+    /** Orders ranges by lower bound and then by upper bound. */
+    private static final Comparator<Range> BOUNDS_ORDER
+            = new Comparator<Range>() {
+        @Override
+        public int compare(Range r1, Range r2) {
+            return compareBounds(r1.getLowerBound(), r1.getUpperBound(),
+                    r2.getLowerBound(), r2.getUpperBound());
+        }
+    };
+
+    /** The root of the tree (<code>null</code> if the tree is empty). */
+    private Node root;
+
+    /** The ranges with a NaN bound, which are not in the tree. */
+    private List<Range> unordered;
+
+    /** The number of ranges in the index. */
+    private int size;
+
+    /** The sequence number for the next node (keeps equal ranges apart). */
+    private long nextId;
+
+    /**
+     * Creates a new, empty index.
+     */
+    public RangeIndex() {
+        this.unordered = new ArrayList<Range>();
+    }
+
+    /**
+     * Creates a new index containing the supplied ranges.  The tree is
+     * built directly from the sorted ranges in O(n log n) time, which is
+     * faster than inserting the ranges one by one.
+     *
+     * @param ranges  the ranges (<code>null</code> not permitted, and the
+     *     collection must not contain <code>null</code>).
+     */
+    public RangeIndex(Collection<Range> ranges) {
+        this();
+        ParamChecks.nullNotPermitted(ranges, "ranges");
+        Range[] sorted = new Range[ranges.size()];
+        int n = 0;
+        for (Range range : ranges) {
+            ParamChecks.nullNotPermitted(range, "range");
+            if (hasNaNBound(range)) {
+                this.unordered.add(range);
+            }
+            else {
+                sorted[n++] = range;
+            }
+        }
+        Arrays.sort(sorted, 0, n, BOUNDS_ORDER);
+        this.root = build(sorted, 0, n);
+        this.size = ranges.size();
+    }
+
+    /**
+     * Returns the number of ranges in the index.
+     *
+     * @return The number of ranges.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Adds a range to the index.  The same range (or equal ranges) may be
+     * added more than once.
+     *
+     * @param range  the range (<code>null</code> not permitted).
+     */
+    public void add(Range range) {
+        ParamChecks.nullNotPermitted(range, "range");
+        if (hasNaNBound(range)) {
+            this.unordered.add(range);
+        }
+        else {
+            this.root = insert(this.root, new Node(range, this.nextId++));
+        }
+        this.size++;
+    }
+
+    /**
+     * Removes one range equal to the specified range (that is, with the
+     * same bounds) from the index.
+     *
+     * @param range  the range (<code>null</code> not permitted).
+     *
+     * @return <code>true</code> if a range was removed.
+     */
+    public boolean remove(Range range) {
+        ParamChecks.nullNotPermitted(range, "range");
+        if (hasNaNBound(range)) {
+            for (Iterator<Range> iterator = this.unordered.iterator();
+                    iterator.hasNext();) {
+                Range r = iterator.next();
+                if (sameBounds(r, range)) {
+                    iterator.remove();
+                    this.size--;
+                    return true;
+                }
+            }
+            return false;
+        }
+        int before = this.size;
+        this.root = delete(this.root, range.getLowerBound(),
+                range.getUpperBound());
+        return this.size < before;
+    }
+
+    /**
+     * Removes all ranges from the index.
+     */
+    public void clear() {
+        this.root = null;
+        this.unordered.clear();
+        this.size = 0;
+    }
+
+    /**
+     * Returns the ranges that contain a value, as determined by
+     * {@link Range#contains(double)}.  The ranges in the tree are returned
+     * in ascending order of their bounds, followed by any ranges with a NaN
+     * bound (none of which can contain a value).
+     *
+     * @param value  the value.
+     *
+     * @return A new list of ranges (possibly empty, never
+     *     <code>null</code>).
+     */
+    public List<Range> getRangesContaining(double value) {
+        List<Range> result = new ArrayList<Range>();
+        collectContaining(this.root, value, result);
+        return result;
+    }
+
+    /**
+     * Returns the ranges that intersect the interval from <code>b0</code>
+     * to <code>b1</code>, as determined by
+     * {@link Range#intersects(double, double)}.  The ranges in the tree are
+     * returned in ascending order of their bounds, followed by any matching
+     * ranges with a NaN bound.
+     *
+     * @param b0  the lower bound of the interval.
+     * @param b1  the upper bound of the interval.
+     *
+     * @return A new list of ranges (possibly empty, never
+     *     <code>null</code>).
+     */
+    public List<Range> getRangesIntersecting(double b0, double b1) {
+        List<Range> result = new ArrayList<Range>();
+        collectIntersecting(this.root, b0, b1, result);
+        for (Range range : this.unordered) {
+            if (range.intersects(b0, b1)) {
+                result.add(range);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the ranges that intersect another range, as determined by
+     * {@link Range#intersects(Range)}.
+     *
+     * @param range  the range (<code>null</code> not permitted).
+     *
+     * @return A new list of ranges (possibly empty, never
+     *     <code>null</code>).
+     */
+    public List<Range> getRangesIntersecting(Range range) {
+        ParamChecks.nullNotPermitted(range, "range");
+        return getRangesIntersecting(range.getLowerBound(),
+                range.getUpperBound());
+    }
+
+    /**
+     * Adds the ranges in a subtree that contain a value to a list, in
+     * order.
+     *
+     * @param node  the subtree root (<code>null</code> permitted).
+     * @param value  the value.
+     * @param result  the list.
+     */
+    private static void collectContaining(Node node, double value,
+            List<Range> result) {
+        // a range can only contain the value if its upper bound is at least
+        // the value, and (going right) its lower bound is at most the value
+        while (node != null && !(node.maxUpper < value)) {
+            collectContaining(node.left, value, result);
+            if (!(node.lower <= value)) {
+                return;
+            }
+            if (node.range.contains(value)) {
+                result.add(node.range);
+            }
+            node = node.right;
+        }
+    }
+
+    /**
+     * Adds the ranges in a subtree that intersect an interval to a list, in
+     * order.
+     *
+     * @param node  the subtree root (<code>null</code> permitted).
+     * @param b0  the lower bound of the interval.
+     * @param b1  the upper bound of the interval.
+     * @param result  the list.
+     */
+    private static void collectIntersecting(Node node, double b0, double b1,
+            List<Range> result) {
+        // Range.intersects(b0, b1) requires lower < b1 and upper >= b0 when
+        // it returns true, so subtrees that fail either test are skipped
+        while (node != null && !(node.maxUpper < b0)) {
+            collectIntersecting(node.left, b0, b1, result);
+            if (node.lower >= b1) {
+                return;
+            }
+            if (node.range.intersects(b0, b1)) {
+                result.add(node.range);
+            }
+            node = node.right;
+        }
+    }
+
+    /**
+     * Builds a balanced subtree from a slice of sorted ranges.
+     *
+     * @param sorted  the sorted ranges.
+     * @param start  the first range (inclusive).
+     * @param end  the last range (exclusive).
+     *
+     * @return The subtree root (<code>null</code> for an empty slice).
+     */
+    private Node build(Range[] sorted, int start, int end) {
+        if (start >= end) {
+            return null;
+        }
+        int mid = (start + end) >>> 1;
+        Node left = build(sorted, start, mid);
+        Node node = new Node(sorted[mid], this.nextId++);
+        node.left = left;
+        node.right = build(sorted, mid + 1, end);
+        node.update();
+        return node;
+    }
+
+    /**
+     * Inserts a node into a subtree.
+     *
+     * @param node  the subtree root (<code>null</code> permitted).
+     * @param added  the new node.
+     *
+     * @return The new subtree root.
+     */
+    private static Node insert(Node node, Node added) {
+        if (node == null) {
+            return added;
+        }
+        int c = compareBounds(added.lower, added.upper, node.lower,
+                node.upper);
+        if (c < 0 || (c == 0 && added.id < node.id)) {
+            node.left = insert(node.left, added);
+        }
+        else {
+            node.right = insert(node.right, added);
+        }
+        return balance(node);
+    }
+
+    /**
+     * Deletes one node with the specified bounds from a subtree.
+     *
+     * @param node  the subtree root (<code>null</code> permitted).
+     * @param lower  the lower bound.
+     * @param upper  the upper bound.
+     *
+     * @return The new subtree root.
+     */
+    private Node delete(Node node, double lower, double upper) {
+        if (node == null) {
+            return null;
+        }
+        int c = compareBounds(lower, upper, node.lower, node.upper);
+        if (c < 0) {
+            node.left = delete(node.left, lower, upper);
+        }
+        else if (c > 0) {
+            node.right = delete(node.right, lower, upper);
+        }
+        else {
+            this.size--;
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteFirst(node.right);
+            successor.left = node.left;
+            return balance(successor);
+        }
+        return balance(node);
+    }
+
+    /**
+     * Deletes the first (leftmost) node of a subtree.
+     *
+     * @param node  the subtree root (not <code>null</code>).
+     *
+     * @return The new subtree root.
+     */
+    private static Node deleteFirst(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteFirst(node.left);
+        return balance(node);
+    }
+
+    /**
+     * Restores the AVL balance of a node whose subtrees are balanced and
+     * differ in height by at most two, and updates its summary fields.
+     *
+     * @param node  the node.
+     *
+     * @return The new subtree root.
+     */
+    private static Node balance(Node node) {
+        node.update();
+        int b = height(node.left) - height(node.right);
+        if (b > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (b < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    /**
+     * Rotates a subtree to the left.
+     *
+     * @param node  the subtree root.
+     *
+     * @return The new subtree root.
+     */
+    private static Node rotateLeft(Node node) {
+        Node r = node.right;
+        node.right = r.left;
+        r.left = node;
+        node.update();
+        r.update();
+        return r;
+    }
+
+    /**
+     * Rotates a subtree to the right.
+     *
+     * @param node  the subtree root.
+     *
+     * @return The new subtree root.
+     */
+    private static Node rotateRight(Node node) {
+        Node l = node.left;
+        node.left = l.right;
+        l.right = node;
+        node.update();
+        l.update();
+        return l;
+    }
+
+    /**
+     * Returns the height of a subtree.
+     *
+     * @param node  the subtree root (<code>null</code> permitted).
+     *
+     * @return The height (0 for an empty subtree).
+     */
+    private static int height(Node node) {
+        return (node == null) ? 0 : node.height;
+    }
+
+    /**
+     * Compares two pairs of bounds, first by lower bound and then by upper
+     * bound.
+     *
+     * @param lower1  the first lower bound.
+     * @param upper1  the first upper bound.
+     * @param lower2  the second lower bound.
+     * @param upper2  the second upper bound.
+     *
+     * @return A negative, zero or positive value.
+     */
+    private static int compareBounds(double lower1, double upper1,
+            double lower2, double upper2) {
+        if (lower1 < lower2) {
+            return -1;
+        }
+        if (lower1 > lower2) {
+            return 1;
+        }
+        if (upper1 < upper2) {
+            return -1;
+        }
+        if (upper1 > upper2) {
+            return 1;
+        }
+        return 0;
+    }
+
+    /**
+     * Returns <code>true</code> if either bound of a range is NaN.
+     *
+     * @param range  the range.
+     *
+     * @return A boolean.
+     */
+    private static boolean hasNaNBound(Range range) {
+        return Double.isNaN(range.getLowerBound())
+                || Double.isNaN(range.getUpperBound());
+    }
+
+    /**
+     * Returns <code>true</code> if two ranges have identical bounds
+     * (including NaN bounds, unlike {@link Range#equals(Object)}).
+     *
+     * @param r1  the first range.
+     * @param r2  the second range.
+     *
+     * @return A boolean.
+     */
+    private static boolean sameBounds(Range r1, Range r2) {
+        return Double.doubleToLongBits(r1.getLowerBound())
+                == Double.doubleToLongBits(r2.getLowerBound())
+                && Double.doubleToLongBits(r1.getUpperBound())
+                == Double.doubleToLongBits(r2.getUpperBound());
+    }
+
+    /**
+     * A node in the tree.
+     */
+    private static final class Node {
+
+        /** The range. */
+        final Range range;
+
+        /** The lower bound of the range. */
+        final double lower;
+
+        /** The upper bound of the range. */
+        final double upper;
+
+        /** The sequence number, which orders nodes with equal bounds. */
+        final long id;
+
+        /** The largest upper bound in the subtree rooted at this node. */
+        double maxUpper;
+
+        /** The height of the subtree rooted at this node. */
+        int height;
+
+        /** The left child. */
+        Node left;
+
+        /** The right child. */
+        Node right;
+
+        /**
+         * Creates a leaf node.
+         *
+         * @param range  the range.
+         * @param id  the sequence number.
+         */
+        Node(Range range, long id) {
+            this.range = range;
+            this.lower = range.getLowerBound();
+            this.upper = range.getUpperBound();
+            this.id = id;
+            this.maxUpper = this.upper;
+            this.height = 1;
+        }
+
+        /**
+         * Recalculates the height and largest upper bound from the
+         * children.
+         */
+        void update() {
+            double m = this.upper;
+            int h = 0;
+            if (this.left != null) {
+                m = Math.max(m, this.left.maxUpper);
+                h = this.left.height;
+            }
+            if (this.right != null) {
+                m = Math.max(m, this.right.maxUpper);
+                h = Math.max(h, this.right.height);
+            }
+            this.maxUpper = m;
+            this.height = h + 1;
+        }
+
+    }
+
+}
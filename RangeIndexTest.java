@@ -0,0 +1,142 @@
+package org.jfree.data;
+
+import static org.junit.Assert.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * @author group17
+ *
+ */
+
+public class RangeIndexTest {
+
+    /**
+     * Returns the ranges in a list that contain a value, by testing each one.
+     */
+    private static List<Range> containing(List<Range> ranges, double value) {
+        List<Range> result = new ArrayList<Range>();
+        for (Range range : ranges) {
+            if (range.contains(value)) {
+                result.add(range);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the ranges in a list that intersect an interval, by testing each one.
+     */
+    private static List<Range> intersecting(List<Range> ranges, double b0, double b1) {
+        List<Range> result = new ArrayList<Range>();
+        for (Range range : ranges) {
+            if (range.intersects(b0, b1)) {
+                result.add(range);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks that two lists hold the same ranges, ignoring order.
+     */
+    private static void assertSameRanges(List<Range> expected, List<Range> actual) {
+        assertEquals(expected.size(), actual.size());
+        List<Range> remaining = new ArrayList<Range>(expected);
+        for (Range range : actual) {
+            assertTrue("Unexpected " + range, remaining.remove(range));
+        }
+    }
+
+// ---------------- METHOD BEING TESTED: getRangesContaining() / getRangesIntersecting() ---------------- //
+
+    /**
+     * Purpose: Verifies stabbing and overlap queries against a linear scan.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testQueriesMatchLinearScan() {
+        Random random = new Random(22L);
+        List<Range> ranges = new ArrayList<Range>();
+        RangeIndex index = new RangeIndex();
+        for (int i = 0; i < 500; i++) {
+            double lower = random.nextInt(200);
+            Range range = new Range(lower, lower + random.nextInt(30));
+            ranges.add(range);
+            index.add(range);
+        }
+        RangeIndex built = new RangeIndex(ranges);
+        assertEquals(500, index.size());
+        for (int q = -5; q < 240; q++) {
+            assertSameRanges(containing(ranges, q), index.getRangesContaining(q));
+            assertSameRanges(containing(ranges, q + 0.5), built.getRangesContaining(q + 0.5));
+            assertSameRanges(intersecting(ranges, q, q + 7), index.getRangesIntersecting(q, q + 7));
+            assertSameRanges(intersecting(ranges, q, q), built.getRangesIntersecting(q, q));
+        }
+    }
+
+    /**
+     * Purpose: Verifies that the results are in ascending order of the bounds.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testResultOrder() {
+        RangeIndex index = new RangeIndex();
+        index.add(new Range(5.0, 9.0));
+        index.add(new Range(1.0, 10.0));
+        index.add(new Range(1.0, 6.0));
+        assertEquals(Arrays.asList(new Range(1.0, 6.0), new Range(1.0, 10.0), new Range(5.0, 9.0)),
+                index.getRangesContaining(5.5));
+    }
+
+    /**
+     * Purpose: Verifies infinite bounds, and that NaN-bounded ranges are found by the overlap query only.
+     * Type of tests involved: boundary value testing
+     */
+    @Test
+    public void testSpecialBounds() {
+        Range all = new Range(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+        Range partial = new Range(Double.NaN, 5.0);
+        RangeIndex index = new RangeIndex(Arrays.asList(all, partial, new Range(0.0, 1.0)));
+        assertEquals(Arrays.asList(all), index.getRangesContaining(3.0));
+        assertEquals(Arrays.asList(all), index.getRangesIntersecting(3.0, 4.0).subList(0, 1));
+        assertSame(partial, index.getRangesIntersecting(3.0, 4.0).get(1));
+        assertTrue(index.getRangesContaining(Double.NaN).isEmpty());
+        assertTrue(index.remove(new Range(Double.NaN, 5.0)));
+        assertEquals(2, index.size());
+    }
+
+// ---------------- METHOD BEING TESTED: remove() ---------------- //
+
+    /**
+     * Purpose: Verifies that removing ranges, including duplicates, keeps the queries correct.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testRemove() {
+        Random random = new Random(7L);
+        List<Range> ranges = new ArrayList<Range>();
+        for (int i = 0; i < 300; i++) {
+            double lower = random.nextInt(50);
+            ranges.add(new Range(lower, lower + random.nextInt(10)));
+        }
+        RangeIndex index = new RangeIndex(ranges);
+        for (int i = 0; i < 200; i++) {
+            Range range = ranges.remove(random.nextInt(ranges.size()));
+            assertTrue(index.remove(range));
+        }
+        assertFalse(index.remove(new Range(-5.0, -4.0)));
+        assertEquals(ranges.size(), index.size());
+        for (int q = 0; q < 60; q++) {
+            assertSameRanges(containing(ranges, q), index.getRangesContaining(q));
+            assertSameRanges(intersecting(ranges, q - 3, q), index.getRangesIntersecting(new Range(q - 3, q)));
+        }
+        index.clear();
+        assertEquals(0, index.size());
+        assertTrue(index.getRangesContaining(10.0).isEmpty());
+    }
+
+}
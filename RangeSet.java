@@ -0,0 +1,461 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------
+ * RangeSet.java
+ * -------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  Group 17;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G17);
+ *
+ */
+
+package org.jfree.data;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * An immutable set of real numbers made up of disjoint closed intervals,
+ * for example the periods covered by data or the maintenance windows in a
+ * schedule.  The intervals are kept in ascending order and intervals that
+ * overlap or touch are merged, so <code>[0, 1]</code> and <code>[1, 2]</code>
+ * become <code>[0, 2]</code>.  The bounds are stored in a single
+ * <code>double</code> array, so a set with millions of intervals needs
+ * 16 bytes per interval and no {@link Range} objects;
+ * {@link #contains(double)} is a binary search.
+ * <p>
+ * Because the intervals are closed, {@link #difference(RangeSet)} and
+ * {@link #complement(Range)} return the closure of the exact result: the
+ * boundary points shared with the removed intervals are kept (so
+ * <code>[0, 5]</code> minus <code>[2, 3]</code> is <code>[0, 2]</code> and
+ * <code>[3, 5]</code>), and removing a single point has no effect.
+ */
+public final class RangeSet implements Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -4378652409611528804L;
+
+    /** Orders ranges by lower bound. */
+    private static final Comparator<Range> LOWER_BOUND_ORDER
+            = new Comparator<Range>() {
+        @Override
+        public int compare(Range r1, Range r2) {
+            return Double.compare(r1.getLowerBound(), r2.getLowerBound());
+        }
+    };
+
+    /**
+     * The bounds of the intervals: the lower bound of interval i is at
+     * index 2i and the upper bound at index 2i + 1.
+     */
+    private final double[] bounds;
+
+    /**
+     * Creates a new, empty set.
+     */
+    public RangeSet() {
+        this.bounds = new double[0];
+    }
+
+    /**
+     * Creates a new set containing a single range.
+     *
+     * @param range  the range (<code>null</code> not permitted, and neither
+     *     bound may be NaN).
+     */
+    public RangeSet(Range range) {
+        ParamChecks.nullNotPermitted(range, "range");
+        checkBounds(range);
+        this.bounds = new double[] {range.getLowerBound(),
+                range.getUpperBound()};
+    }
+
+    /**
+     * Creates a new set that is the union of a collection of ranges, in any
+     * order.  This takes O(n log n) time.
+     *
+     * @param ranges  the ranges (<code>null</code> not permitted, and the
+     *     collection must not contain <code>null</code> or a range with a
+     *     NaN bound).
+     */
+    public RangeSet(Collection<Range> ranges) {
+        ParamChecks.nullNotPermitted(ranges, "ranges");
+        Range[] sorted = ranges.toArray(new Range[ranges.size()]);
+        for (int i = 0; i < sorted.length; i++) {
+            ParamChecks.nullNotPermitted(sorted[i], "range");
+            checkBounds(sorted[i]);
+        }
+        Arrays.sort(sorted, LOWER_BOUND_ORDER);
+        Builder builder = new Builder(sorted.length);
+        for (int i = 0; i < sorted.length; i++) {
+            builder.append(sorted[i].getLowerBound(),
+                    sorted[i].getUpperBound());
+        }
+        this.bounds = builder.toArray();
+    }
+
+    /**
+     * Creates a set from bounds that are already sorted and merged.
+     *
+     * @param bounds  the bounds (not copied).
+     */
+    private RangeSet(double[] bounds) {
+        this.bounds = bounds;
+    }
+
+    /**
+     * Returns <code>true</code> if the set is empty.
+     *
+     * @return A boolean.
+     */
+    public boolean isEmpty() {
+        return this.bounds.length == 0;
+    }
+
+    /**
+     * Returns the number of disjoint intervals in the set.
+     *
+     * @return The interval count.
+     */
+    public int getIntervalCount() {
+        return this.bounds.length / 2;
+    }
+
+    /**
+     * Returns one of the intervals in the set.
+     *
+     * @param index  the interval index (zero-based, in ascending order).
+     *
+     * @return The interval.
+     */
+    public Range getInterval(int index) {
+        if (index < 0 || index >= getIntervalCount()) {
+            throw new IndexOutOfBoundsException("Interval index out of "
+                    + "bounds: " + index);
+        }
+        return new Range(this.bounds[2 * index], this.bounds[2 * index + 1]);
+    }
+
+    /**
+     * Returns the smallest range that contains the whole set.
+     *
+     * @return The range, or <code>null</code> if the set is empty.
+     */
+    public Range getSpan() {
+        if (isEmpty()) {
+            return null;
+        }
+        return new Range(this.bounds[0], this.bounds[this.bounds.length - 1]);
+    }
+
+    /**
+     * Returns the total length of the intervals in the set.
+     *
+     * @return The total length.
+     */
+    public double getTotalLength() {
+        double total = 0.0;
+        for (int i = 0; i < this.bounds.length; i += 2) {
+            total += this.bounds[i + 1] - this.bounds[i];
+        }
+        return total;
+    }
+
+    /**
+     * Returns <code>true</code> if the set contains a value.  This takes
+     * O(log n) time.
+     *
+     * @param value  the value.
+     *
+     * @return A boolean (always <code>false</code> for NaN).
+     */
+    public boolean contains(double value) {
+        // find the last interval with a lower bound <= value
+        int low = 0;
+        int high = getIntervalCount() - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (this.bounds[2 * mid] <= value) {
+                found = mid;
+                low = mid + 1;
+            }
+            else {
+                high = mid - 1;
+            }
+        }
+        return found >= 0 && value <= this.bounds[2 * found + 1];
+    }
+
+    /**
+     * Returns the union of this set and another set.  This takes
+     * O(n + m) time.
+     *
+     * @param other  the other set (<code>null</code> not permitted).
+     *
+     * @return The union.
+     */
+    public RangeSet union(RangeSet other) {
+        ParamChecks.nullNotPermitted(other, "other");
+        double[] a = this.bounds;
+        double[] b = other.bounds;
+        Builder builder = new Builder((a.length + b.length) / 2);
+        int i = 0;
+        int j = 0;
+        while (i < a.length || j < b.length) {
+            if (j >= b.length || (i < a.length && a[i] <= b[j])) {
+                builder.append(a[i], a[i + 1]);
+                i += 2;
+            }
+            else {
+                builder.append(b[j], b[j + 1]);
+                j += 2;
+            }
+        }
+        return new RangeSet(builder.toArray());
+    }
+
+    /**
+     * Returns the intersection of this set and another set.  This takes
+     * O(n + m) time.
+     *
+     * @param other  the other set (<code>null</code> not permitted).
+     *
+     * @return The intersection.
+     */
+    public RangeSet intersection(RangeSet other) {
+        ParamChecks.nullNotPermitted(other, "other");
+        double[] a = this.bounds;
+        double[] b = other.bounds;
+        Builder builder = new Builder(Math.min(a.length, b.length) / 2);
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            double lower = Math.max(a[i], b[j]);
+            double upper = Math.min(a[i + 1], b[j + 1]);
+            if (lower <= upper) {
+                builder.append(lower, upper);
+            }
+            if (a[i + 1] < b[j + 1]) {
+                i += 2;
+            }
+            else {
+                j += 2;
+            }
+        }
+        return new RangeSet(builder.toArray());
+    }
+
+    /**
+     * Returns the (closure of the) set of values in this set that are not
+     * in another set.  This takes O(n + m) time.
+     *
+     * @param other  the other set (<code>null</code> not permitted).
+     *
+     * @return The difference.
+     */
+    public RangeSet difference(RangeSet other) {
+        ParamChecks.nullNotPermitted(other, "other");
+        double[] a = this.bounds;
+        double[] b = other.bounds;
+        Builder builder = new Builder(a.length / 2 + b.length / 2);
+        int j = 0;
+        for (int i = 0; i < a.length; i += 2) {
+            double lower = a[i];
+            double upper = a[i + 1];
+            // skip the intervals of 'other' that end before this interval
+            while (j < b.length && b[j + 1] < lower) {
+                j += 2;
+            }
+            double cursor = lower;
+            boolean cursorIncluded = true;
+            for (int k = j; k < b.length && b[k] <= upper; k += 2) {
+                if (b[k] > cursor) {
+                    builder.append(cursor, b[k]);
+                }
+                if (b[k + 1] >= cursor) {
+                    cursor = b[k + 1];
+                    cursorIncluded = false;
+                }
+            }
+            if (cursor < upper || (cursor == upper && cursorIncluded)) {
+                builder.append(cursor, upper);
+            }
+        }
+        return new RangeSet(builder.toArray());
+    }
+
+    /**
+     * Returns the (closure of the) set of values in a bounding range that
+     * are not in this set.
+     *
+     * @param bound  the bounding range (<code>null</code> not permitted,
+     *     and neither bound may be NaN).
+     *
+     * @return The complement.
+     */
+    public RangeSet complement(Range bound) {
+        return new RangeSet(bound).difference(this);
+    }
+
+    /**
+     * Checks that neither bound of a range is NaN.
+     *
+     * @param range  the range.
+     */
+    private static void checkBounds(Range range) {
+        if (Double.isNaN(range.getLowerBound())
+                || Double.isNaN(range.getUpperBound())) {
+            throw new IllegalArgumentException("Range with a NaN bound: "
+                    + range);
+        }
+    }
+
+    /**
+     * Tests this set for equality with an arbitrary object.  Two sets are
+     * equal if they contain the same intervals.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof RangeSet)) {
+            return false;
+        }
+        RangeSet that = (RangeSet) obj;
+        if (this.bounds.length != that.bounds.length) {
+            return false;
+        }
+        for (int i = 0; i < this.bounds.length; i++) {
+            // compare as Range.equals() does, so that 0.0 equals -0.0
+            if (!(this.bounds[i] == that.bounds[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result = this.bounds.length;
+        for (int i = 0; i < this.bounds.length; i++) {
+            // add 0.0 so that -0.0 hashes as 0.0
+            long temp = Double.doubleToLongBits(this.bounds[i] + 0.0);
+            result = 29 * result + (int) (temp ^ (temp >>> 32));
+        }
+        return result;
+    }
+
+    /**
+     * Returns a string representing the set, for debugging.
+     *
+     * @return A string.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("RangeSet[");
+        for (int i = 0; i < this.bounds.length; i += 2) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append('[').append(this.bounds[i]).append(',')
+                    .append(this.bounds[i + 1]).append(']');
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Collects intervals in ascending order of lower bound, merging each one
+     * with the previous interval if they overlap or touch.
+     */
+    private static final class Builder {
+
+        /** The bounds collected so far. */
+        private double[] bounds;
+
+        /** The number of bounds collected (twice the interval count). */
+        private int count;
+
+        /**
+         * Creates a builder.
+         *
+         * @param intervals  the expected number of intervals.
+         */
+        Builder(int intervals) {
+            this.bounds = new double[Math.max(2, 2 * intervals)];
+        }
+
+        /**
+         * Appends an interval, which must not start before the previous
+         * interval.
+         *
+         * @param lower  the lower bound.
+         * @param upper  the upper bound.
+         */
+        void append(double lower, double upper) {
+            if (this.count > 0 && lower <= this.bounds[this.count - 1]) {
+                this.bounds[this.count - 1] = Math.max(
+                        this.bounds[this.count - 1], upper);
+                return;
+            }
+            if (this.count == this.bounds.length) {
+                this.bounds = Arrays.copyOf(this.bounds, 2 * this.count);
+            }
+            this.bounds[this.count++] = lower;
+            this.bounds[this.count++] = upper;
+        }
+
+        /**
+         * Returns the collected bounds.
+         *
+         * @return The bounds, trimmed to length.
+         */
+        double[] toArray() {
+            return Arrays.copyOf(this.bounds, this.count);
+        }
+
+    }
+
+}
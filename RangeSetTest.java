@@ -0,0 +1,127 @@
+package org.jfree.data;
+
+import static org.junit.Assert.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * @author group17
+ *
+ */
+
+public class RangeSetTest {
+
+    /**
+     * Returns a set of random ranges with integer bounds in [0, 100].
+     */
+    private static RangeSet randomSet(Random random) {
+        List<Range> ranges = new ArrayList<Range>();
+        for (int i = 0; i < 8; i++) {
+            double lower = random.nextInt(95);
+            ranges.add(new Range(lower, lower + random.nextInt(6)));
+        }
+        return new RangeSet(ranges);
+    }
+
+// ---------------- METHOD BEING TESTED: RangeSet(Collection) ---------------- //
+
+    /**
+     * Purpose: Verifies that overlapping and touching ranges are merged and the intervals sorted.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testCoalescing() {
+        RangeSet set = new RangeSet(Arrays.asList(new Range(5.0, 6.0), new Range(0.0, 1.0),
+                new Range(1.0, 2.0), new Range(0.5, 1.5), new Range(8.0, 8.0)));
+        assertEquals(3, set.getIntervalCount());
+        assertEquals(new Range(0.0, 2.0), set.getInterval(0));
+        assertEquals(new Range(5.0, 6.0), set.getInterval(1));
+        assertEquals(new Range(8.0, 8.0), set.getInterval(2));
+        assertEquals(new Range(0.0, 8.0), set.getSpan());
+        assertEquals(3.0, set.getTotalLength(), 0.0);
+    }
+
+    /**
+     * Purpose: Verifies that a range with a NaN bound is rejected.
+     * Type of tests involved: exception testing
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNaNBound() {
+        new RangeSet(new Range(Double.NaN, 1.0));
+    }
+
+// ---------------- METHOD BEING TESTED: contains() ---------------- //
+
+    /**
+     * Purpose: Verifies membership at bounds, in gaps, outside the span and for NaN.
+     * Type of tests involved: boundary value testing
+     */
+    @Test
+    public void testContains() {
+        RangeSet set = new RangeSet(Arrays.asList(new Range(0.0, 1.0), new Range(3.0, 4.0)));
+        assertTrue(set.contains(0.0));
+        assertTrue(set.contains(1.0));
+        assertFalse(set.contains(2.0));
+        assertTrue(set.contains(3.5));
+        assertFalse(set.contains(-1.0));
+        assertFalse(set.contains(4.5));
+        assertFalse(set.contains(Double.NaN));
+        assertFalse(new RangeSet().contains(0.0));
+    }
+
+// ---------------- METHOD BEING TESTED: union() / intersection() / difference() ---------------- //
+
+    /**
+     * Purpose: Verifies the set operations against membership of the operands at points between the bounds.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testOperationsMatchMembership() {
+        Random random = new Random(23L);
+        for (int trial = 0; trial < 100; trial++) {
+            RangeSet a = randomSet(random);
+            RangeSet b = randomSet(random);
+            RangeSet union = a.union(b);
+            RangeSet intersection = a.intersection(b);
+            RangeSet difference = a.difference(b);
+            for (double x = -1.5; x < 102; x += 1.0) {
+                assertEquals(a.contains(x) || b.contains(x), union.contains(x));
+                assertEquals(a.contains(x) && b.contains(x), intersection.contains(x));
+                assertEquals(a.contains(x) && !b.contains(x), difference.contains(x));
+            }
+            assertEquals(union, b.union(a));
+            assertEquals(intersection, b.intersection(a));
+        }
+    }
+
+    /**
+     * Purpose: Verifies that the difference keeps shared boundary points and that removing a point has no effect.
+     * Type of tests involved: boundary value testing
+     */
+    @Test
+    public void testDifferenceClosure() {
+        RangeSet a = new RangeSet(new Range(0.0, 5.0));
+        RangeSet diff = a.difference(new RangeSet(new Range(2.0, 3.0)));
+        assertEquals(new RangeSet(Arrays.asList(new Range(0.0, 2.0), new Range(3.0, 5.0))), diff);
+        assertEquals(a, a.difference(new RangeSet(new Range(2.0, 2.0))));
+        assertTrue(a.difference(a).isEmpty());
+        RangeSet point = new RangeSet(new Range(7.0, 7.0));
+        assertEquals(point, point.difference(new RangeSet(new Range(8.0, 9.0))));
+    }
+
+    /**
+     * Purpose: Verifies the complement within a bound, including the case where the set extends beyond the bound.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testComplement() {
+        RangeSet set = new RangeSet(Arrays.asList(new Range(-5.0, 1.0), new Range(3.0, 4.0)));
+        RangeSet gaps = set.complement(new Range(0.0, 10.0));
+        assertEquals(new RangeSet(Arrays.asList(new Range(1.0, 3.0), new Range(4.0, 10.0))), gaps);
+        assertEquals(new RangeSet(new Range(0.0, 10.0)), gaps.union(set).intersection(new RangeSet(new Range(0.0, 10.0))));
+    }
+
+}
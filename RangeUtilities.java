@@ -0,0 +1,590 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * RangeUtilities.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  Group 17;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G17);
+ * 18-Oct-2026 : Added combineAll() and toRange() (G17);
+ * 18-Oct-2026 : Added findBounds() for primitive arrays (G17);
+ * 18-Oct-2026 : Added serialVersionUID to CombineTask (G17);
+ *
+ */
+
+package org.jfree.data;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * Utility methods that apply the {@link Range} methods to arrays of values.
+ * Each method gives exactly the result of calling the corresponding
+ * <code>Range</code> method once per value (including for NaN and infinite
+ * values, and for ranges with NaN or infinite bounds), but the loops read
+ * and write primitive arrays only, with no calls or allocation, so that
+ * the JIT compiler can unroll and vectorize them.
+ */
+public abstract class RangeUtilities {
+
+    /**
+     * The number of ranges at or below which {@link #combineAll(Range[])}
+     * and {@link #combineAll(Iterable)} work on the calling thread.
+     */
+    public static final int PARALLEL_THRESHOLD = 8192;
+
+    /**
+     * Constrains each value in an array slice to a range, as
+     * {@link Range#constrain(double)} would, and writes the results to
+     * another (or the same) array.
+     *
+     * @param range  the range (<code>null</code> not permitted).
+     * @param values  the values (<code>null</code> not permitted).
+     * @param offset  the index of the first value.
+     * @param result  receives the constrained values (<code>null</code> not
+     *     permitted, may be <code>values</code>).
+     * @param resultOffset  the index for the first constrained value.
+     * @param length  the number of values.
+     */
+    public static void constrain(Range range, double[] values, int offset,
+            double[] result, int resultOffset, int length) {
+        ParamChecks.nullNotPermitted(range, "range");
+        ParamChecks.nullNotPermitted(values, "values");
+        ParamChecks.nullNotPermitted(result, "result");
+        checkSlice(values.length, offset, length, "values");
+        checkSlice(result.length, resultOffset, length, "result");
+        double lower = range.getLowerBound();
+        double upper = range.getUpperBound();
+        // Range.constrain() returns upper if value > upper, otherwise lower
+        // if value < lower, otherwise the value itself (including NaN)
+        for (int i = 0; i < length; i++) {
+            double v = values[offset + i];
+            double r = (v < lower) ? lower : v;
+            result[resultOffset + i] = (v > upper) ? upper : r;
+        }
+    }
+
+    /**
+     * Constrains each value in an array to a range, as
+     * {@link Range#constrain(double)} would.
+     *
+     * @param range  the range (<code>null</code> not permitted).
+     * @param values  the values (<code>null</code> not permitted).
+     *
+     * @return A new array holding the constrained values.
+     */
+    public static double[] constrain(Range range, double[] values) {
+        ParamChecks.nullNotPermitted(values, "values");
+        double[] result = new double[values.length];
+        constrain(range, values, 0, result, 0, values.length);
+        return result;
+    }
+
+    /**
+     * Tests each value in an array slice with {@link Range#contains(double)}
+     * and records the results as a bitmap: bit <code>i</code> of the
+     * <code>bits</code> array (bit <code>i % 64</code> of word
+     * <code>i / 64</code>) is set if value <code>offset + i</code> is
+     * contained in the range.  The bits for the slice are overwritten and
+     * any bits after the slice in its last word are cleared.
+     *
+     * @param range  the range (<code>null</code> not permitted).
+     * @param values  the values (<code>null</code> not permitted).
+     * @param offset  the index of the first value.
+     * @param length  the number of values.
+     * @param bits  receives the bitmap (<code>null</code> not permitted,
+     *     with at least <code>(length + 63) / 64</code> words).
+     *
+     * @return The number of values contained in the range.
+     */
+    public static int contains(Range range, double[] values, int offset,
+            int length, long[] bits) {
+        ParamChecks.nullNotPermitted(range, "range");
+        ParamChecks.nullNotPermitted(values, "values");
+        ParamChecks.nullNotPermitted(bits, "bits");
+        checkSlice(values.length, offset, length, "values");
+        checkWords(bits, length);
+        double lower = range.getLowerBound();
+        double upper = range.getUpperBound();
+        int count = 0;
+        for (int w = 0; w * 64 < length; w++) {
+            int start = offset + w * 64;
+            int n = Math.min(64, length - w * 64);
+            long word = 0L;
+            for (int j = 0; j < n; j++) {
+                double v = values[start + j];
+                word |= ((v >= lower && v <= upper) ? 1L : 0L) << j;
+            }
+            bits[w] = word;
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Returns a mask of the values in an array that
+     * {@link Range#contains(double)} accepts.
+     *
+     * @param range  the range (<code>null</code> not permitted).
+     * @param values  the values (<code>null</code> not permitted).
+     *
+     * @return A mask with bit <code>i</code> set if value <code>i</code> is
+     *     contained in the range.
+     */
+    public static BitSet getContainedMask(Range range, double[] values) {
+        ParamChecks.nullNotPermitted(values, "values");
+        long[] bits = new long[(values.length + 63) >>> 6];
+        contains(range, values, 0, values.length, bits);
+        return BitSet.valueOf(bits);
+    }
+
+    /**
+     * Returns the number of values in an array slice that
+     * {@link Range#contains(double)} accepts.
+     *
+     * @param range  the range (<code>null</code> not permitted).
+     * @param values  the values (<code>null</code> not permitted).
+     * @param offset  the index of the first value.
+     * @param length  the number of values.
+     *
+     * @return The number of values contained in the range.
+     */
+    public static int countContained(Range range, double[] values,
+            int offset, int length) {
+        ParamChecks.nullNotPermitted(range, "range");
+        ParamChecks.nullNotPermitted(values, "values");
+        checkSlice(values.length, offset, length, "values");
+        double lower = range.getLowerBound();
+        double upper = range.getUpperBound();
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            double v = values[offset + i];
+            count += (v >= lower && v <= upper) ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Tests pairs of bounds with {@link Range#intersects(double, double)}
+     * and records the results as a bitmap: bit <code>i</code> of the
+     * <code>bits</code> array is set if the range intersects
+     * <code>[b0[offset + i], b1[offset + i]]</code>.  The bits for the
+     * slice are overwritten and any bits after the slice in its last word
+     * are cleared.
+     *
+     * @param range  the range (<code>null</code> not permitted).
+     * @param b0  the lower bounds (<code>null</code> not permitted).
+     * @param b1  the upper bounds (<code>null</code> not permitted).
+     * @param offset  the index of the first pair.
+     * @param length  the number of pairs.
+     * @param bits  receives the bitmap (<code>null</code> not permitted,
+     *     with at least <code>(length + 63) / 64</code> words).
+     *
+     * @return The number of pairs that intersect the range.
+     */
+    public static int intersects(Range range, double[] b0, double[] b1,
+            int offset, int length, long[] bits) {
+        ParamChecks.nullNotPermitted(range, "range");
+        ParamChecks.nullNotPermitted(b0, "b0");
+        ParamChecks.nullNotPermitted(b1, "b1");
+        ParamChecks.nullNotPermitted(bits, "bits");
+        checkSlice(b0.length, offset, length, "b0");
+        checkSlice(b1.length, offset, length, "b1");
+        checkWords(bits, length);
+        double lower = range.getLowerBound();
+        double upper = range.getUpperBound();
+        int count = 0;
+        for (int w = 0; w * 64 < length; w++) {
+            int start = offset + w * 64;
+            int n = Math.min(64, length - w * 64);
+            long word = 0L;
+            for (int j = 0; j < n; j++) {
+                double lo = b0[start + j];
+                double hi = b1[start + j];
+                // the two branches of Range.intersects(double, double)
+                boolean hit = (lo <= lower) ? (hi > lower)
+                        : (lo < upper && hi >= lo);
+                word |= (hit ? 1L : 0L) << j;
+            }
+            bits[w] = word;
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Combines an array of ranges, giving the same result as folding them
+     * with {@link Range#combineIgnoringNaN(Range, Range)}: <code>null</code>
+     * elements and NaN bounds are ignored, and the result is
+     * <code>null</code> if there is no bound other than NaN.  Large arrays
+     * are split in halves and combined in parallel in the common
+     * <code>ForkJoinPool</code>; because the NaN-ignoring minimum and
+     * maximum do not depend on the order in which they are taken, the
+     * result is identical.
+     * <p>
+     * The one difference from a sequential fold concerns ranges with
+     * exactly one NaN bound: where a partial fold of such ranges would have
+     * a lower bound above its upper bound, the fold throws an exception
+     * part way through, while this method fails only if the final bounds
+     * are in the wrong order.
+     *
+     * @param ranges  the ranges (<code>null</code> not permitted,
+     *     <code>null</code> elements permitted).
+     *
+     * @return The combined range (possibly <code>null</code>).
+     */
+    public static Range combineAll(Range[] ranges) {
+        ParamChecks.nullNotPermitted(ranges, "ranges");
+        CombineTask task = new CombineTask(ranges, 0, ranges.length);
+        if (ranges.length <= PARALLEL_THRESHOLD) {
+            task.compute();
+        }
+        else {
+            ForkJoinPool.commonPool().invoke(task);
+        }
+        return task.result.getRange();
+    }
+
+    /**
+     * Combines a sequence of ranges, with the same result as
+     * {@link #combineAll(Range[])}.  A {@link Collection} with more than
+     * {@link #PARALLEL_THRESHOLD} elements is combined with a parallel
+     * stream; any other <code>Iterable</code> is combined on the calling
+     * thread.
+     *
+     * @param ranges  the ranges (<code>null</code> not permitted,
+     *     <code>null</code> elements permitted).
+     *
+     * @return The combined range (possibly <code>null</code>).
+     */
+    public static Range combineAll(Iterable<? extends Range> ranges) {
+        ParamChecks.nullNotPermitted(ranges, "ranges");
+        if (ranges instanceof Collection) {
+            Collection<? extends Range> c = (Collection<? extends Range>)
+                    ranges;
+            if (c.size() > PARALLEL_THRESHOLD) {
+                return c.parallelStream().collect(toRange());
+            }
+        }
+        RangeAccumulator accumulator = new RangeAccumulator();
+        for (Range range : ranges) {
+            accumulator.include(range);
+        }
+        return accumulator.getRange();
+    }
+
+    /**
+     * Combines a stream of ranges, with the same result as
+     * {@link #combineAll(Range[])}.  The stream is combined in parallel if
+     * it is a parallel stream.
+     *
+     * @param ranges  the ranges (<code>null</code> not permitted,
+     *     <code>null</code> elements permitted).
+     *
+     * @return The combined range (possibly <code>null</code>).
+     */
+    public static Range combineAll(Stream<? extends Range> ranges) {
+        ParamChecks.nullNotPermitted(ranges, "ranges");
+        return ranges.collect(toRange());
+    }
+
+    /**
+     * Returns a collector that combines ranges with the same result as
+     * {@link #combineAll(Range[])}.  The collector keeps only a
+     * {@link RangeAccumulator} per thread, and is unordered so that
+     * parallel streams can merge partial results in any order.
+     *
+     * @return A collector (never <code>null</code>).
+     */
+    public static Collector<Range, RangeAccumulator, Range> toRange() {
+        return RangeCollector.INSTANCE;
+    }
+
+    /**
+     * A task that combines a slice of an array of ranges, splitting it in
+     * halves while it is larger than the threshold.
+     */
+    private static final class CombineTask extends RecursiveAction {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 8027364095182746315L;
+
+        /** The ranges. */
+        private final Range[] ranges;
+
+        /** The first index (inclusive). */
+        private final int lo;
+
+        /** The last index (exclusive). */
+        private final int hi;
+
+        /** The combined bounds, once the task has completed. */
+        private RangeAccumulator result;
+
+        CombineTask(Range[] ranges, int lo, int hi) {
+            this.ranges = ranges;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.hi - this.lo <= PARALLEL_THRESHOLD) {
+                RangeAccumulator accumulator = new RangeAccumulator();
+                for (int i = this.lo; i < this.hi; i++) {
+                    accumulator.include(this.ranges[i]);
+                }
+                this.result = accumulator;
+                return;
+            }
+            int mid = (this.lo + this.hi) >>> 1;
+            CombineTask left = new CombineTask(this.ranges, this.lo, mid);
+            CombineTask right = new CombineTask(this.ranges, mid, this.hi);
+            left.fork();
+            right.compute();
+            left.join();
+            left.result.include(right.result);
+            this.result = left.result;
+        }
+
+    }
+
+    /**
+     * The collector returned by {@link #toRange()}, which also serves as
+     * its own supplier, accumulator and combiner.
+     */
+    private static final class RangeCollector
+            implements Collector<Range, RangeAccumulator, Range>,
+            Supplier<RangeAccumulator>, BiConsumer<RangeAccumulator, Range>,
+            BinaryOperator<RangeAccumulator> {
+
+        /** The single instance. */
+        static final RangeCollector INSTANCE = new RangeCollector();
+
+        /** The finisher, which converts the accumulator to a range. */
+        private static final Function<RangeAccumulator, Range> FINISHER
+                = new Function<RangeAccumulator, Range>() {
+            @Override
+            public Range apply(RangeAccumulator accumulator) {
+                return accumulator.getRange();
+            }
+        };
+
+        /** The collector characteristics. */
+        private static final Set<Characteristics> CHARACTERISTICS
+                = Collections.unmodifiableSet(EnumSet.of(
+                Characteristics.UNORDERED));
+
+        @Override
+        public Supplier<RangeAccumulator> supplier() {
+            return this;
+        }
+
+        @Override
+        public BiConsumer<RangeAccumulator, Range> accumulator() {
+            return this;
+        }
+
+        @Override
+        public BinaryOperator<RangeAccumulator> combiner() {
+            return this;
+        }
+
+        @Override
+        public Function<RangeAccumulator, Range> finisher() {
+            return FINISHER;
+        }
+
+        @Override
+        public Set<Characteristics> characteristics() {
+            return CHARACTERISTICS;
+        }
+
+        @Override
+        public RangeAccumulator get() {
+            return new RangeAccumulator();
+        }
+
+        @Override
+        public void accept(RangeAccumulator accumulator, Range range) {
+            accumulator.include(range);
+        }
+
+        @Override
+        public RangeAccumulator apply(RangeAccumulator a,
+                RangeAccumulator b) {
+            a.include(b);
+            return a;
+        }
+
+    }
+
+    /**
+     * Returns the range of the values in an array, ignoring NaN.  The
+     * array is read once; see
+     * {@link RangeAccumulator#include(double[], int, int, int)}.
+     *
+     * @param values  the values (<code>null</code> not permitted).
+     *
+     * @return The range, or <code>null</code> if the array is empty or
+     *     holds only NaN values.
+     */
+    public static Range findBounds(double[] values) {
+        ParamChecks.nullNotPermitted(values, "values");
+        return findBounds(values, 0, values.length, 1);
+    }
+
+    /**
+     * Returns the range of the values in an array slice, ignoring NaN.
+     *
+     * @param values  the values (<code>null</code> not permitted).
+     * @param offset  the index of the first value.
+     * @param length  the number of values.
+     *
+     * @return The range, or <code>null</code> if the slice is empty or
+     *     holds only NaN values.
+     */
+    public static Range findBounds(double[] values, int offset, int length) {
+        return findBounds(values, offset, length, 1);
+    }
+
+    /**
+     * Returns the range of every <code>stride</code>-th value of an array,
+     * starting at <code>offset</code>, ignoring NaN.  For an interleaved
+     * x/y buffer, the x-values have offset 0 and stride 2 and the y-values
+     * have offset 1 and stride 2.
+     *
+     * @param values  the values (<code>null</code> not permitted).
+     * @param offset  the index of the first value.
+     * @param count  the number of values.
+     * @param stride  the distance between values (&gt;= 1).
+     *
+     * @return The range, or <code>null</code> if there are no values other
+     *     than NaN.
+     */
+    public static Range findBounds(double[] values, int offset, int count,
+            int stride) {
+        RangeAccumulator accumulator = new RangeAccumulator();
+        accumulator.include(values, offset, count, stride);
+        return accumulator.getRange();
+    }
+
+    /**
+     * Returns the range of the values in an array, ignoring NaN.
+     *
+     * @param values  the values (<code>null</code> not permitted).
+     *
+     * @return The range, or <code>null</code> if the array is empty or
+     *     holds only NaN values.
+     */
+    public static Range findBounds(float[] values) {
+        ParamChecks.nullNotPermitted(values, "values");
+        return findBounds(values, 0, values.length, 1);
+    }
+
+    /**
+     * Returns the range of the values in an array slice, ignoring NaN.
+     *
+     * @param values  the values (<code>null</code> not permitted).
+     * @param offset  the index of the first value.
+     * @param length  the number of values.
+     *
+     * @return The range, or <code>null</code> if the slice is empty or
+     *     holds only NaN values.
+     */
+    public static Range findBounds(float[] values, int offset, int length) {
+        return findBounds(values, offset, length, 1);
+    }
+
+    /**
+     * Returns the range of every <code>stride</code>-th value of an array,
+     * starting at <code>offset</code>, ignoring NaN.
+     *
+     * @param values  the values (<code>null</code> not permitted).
+     * @param offset  the index of the first value.
+     * @param count  the number of values.
+     * @param stride  the distance between values (&gt;= 1).
+     *
+     * @return The range, or <code>null</code> if there are no values other
+     *     than NaN.
+     */
+    public static Range findBounds(float[] values, int offset, int count,
+            int stride) {
+        RangeAccumulator accumulator = new RangeAccumulator();
+        accumulator.include(values, offset, count, stride);
+        return accumulator.getRange();
+    }
+
+    /**
+     * Checks that a slice lies within an array.
+     *
+     * @param arrayLength  the array length.
+     * @param offset  the offset of the slice.
+     * @param length  the length of the slice.
+     * @param name  the array name, for the error message.
+     */
+    static void checkSlice(int arrayLength, int offset, int length,
+            String name) {
+        if (offset < 0 || length < 0 || offset > arrayLength - length) {
+            throw new IndexOutOfBoundsException("Slice [" + offset + ", "
+                    + offset + " + " + length + ") is outside the '" + name
+                    + "' array of length " + arrayLength);
+        }
+    }
+
+    /**
+     * Checks that a bitmap has enough words for a number of bits.
+     *
+     * @param bits  the bitmap.
+     * @param length  the number of bits.
+     */
+    private static void checkWords(long[] bits, int length) {
+        int required = (length + 63) >>> 6;
+        if (bits.length < required) {
+            throw new IllegalArgumentException("The 'bits' array has length "
+                    + bits.length + ", at least " + required + " required.");
+        }
+    }
+
+}
@@ -0,0 +1,285 @@
+package org.jfree.data;
+
+import static org.junit.Assert.*;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * @author group17
+ *
+ */
+
+public class RangeUtilitiesTest {
+
+    private static final double[] VALUES = {
+        -10.0, -1.0, -0.0, 0.0, 0.5, 1.0, 2.0, 10.0, 1e300,
+        Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+        Double.MIN_VALUE, -Double.MAX_VALUE, Double.MAX_VALUE
+    };
+
+    private static final Range[] RANGES = {
+        new Range(0.0, 1.0), new Range(-1.0, -1.0), new Range(-0.0, 0.0),
+        new Range(Double.NEGATIVE_INFINITY, 0.5), new Range(1.0, Double.POSITIVE_INFINITY),
+        new Range(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY),
+        new Range(Double.NaN, Double.NaN), new Range(Double.NaN, 2.0), new Range(-1.0, Double.NaN)
+    };
+
+// ---------------- METHOD BEING TESTED: constrain() ---------------- //
+
+    /**
+     * Purpose: Verifies bit-for-bit parity with Range.constrain() for special values and bounds.
+     * Type of tests involved: boundary value testing
+     */
+    @Test
+    public void testConstrainMatchesScalar() {
+        for (Range range : RANGES) {
+            double[] result = RangeUtilities.constrain(range, VALUES);
+            for (int i = 0; i < VALUES.length; i++) {
+                assertEquals(range + " " + VALUES[i], Double.doubleToRawLongBits(range.constrain(VALUES[i])),
+                        Double.doubleToRawLongBits(result[i]));
+            }
+        }
+    }
+
+    /**
+     * Purpose: Verifies that constraining in place and into an offset slice leaves other elements alone.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testConstrainSliceInPlace() {
+        double[] values = {5.0, -5.0, 0.5, 7.0};
+        RangeUtilities.constrain(new Range(0.0, 1.0), values, 1, values, 1, 2);
+        assertArrayEquals(new double[] {5.0, 0.0, 0.5, 7.0}, values, 0.0);
+    }
+
+    /**
+     * Purpose: Verifies that a slice outside the result array is reported as an exception.
+     * Type of tests involved: exception testing
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testConstrainInvalidSlice() {
+        RangeUtilities.constrain(new Range(0.0, 1.0), new double[4], 0, new double[3], 0, 4);
+    }
+
+// ---------------- METHOD BEING TESTED: contains() / countContained() ---------------- //
+
+    /**
+     * Purpose: Verifies that the bitmap, mask and count agree with Range.contains() across a word boundary.
+     * Type of tests involved: boundary value testing
+     */
+    @Test
+    public void testContainsMatchesScalar() {
+        double[] values = new double[3 * VALUES.length * 5];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = VALUES[i % VALUES.length];
+        }
+        for (Range range : RANGES) {
+            long[] bits = new long[2];
+            bits[1] = -1L;
+            int count = RangeUtilities.contains(range, values, 3, 70, bits);
+            BitSet mask = RangeUtilities.getContainedMask(range, values);
+            int expected = 0;
+            for (int i = 0; i < 70; i++) {
+                boolean in = range.contains(values[3 + i]);
+                expected += in ? 1 : 0;
+                assertEquals(in, (bits[i >>> 6] & (1L << i)) != 0L);
+            }
+            assertEquals(0L, bits[1] >>> 6);
+            assertEquals(expected, count);
+            assertEquals(expected, RangeUtilities.countContained(range, values, 3, 70));
+            for (int i = 0; i < values.length; i++) {
+                assertEquals(range.contains(values[i]), mask.get(i));
+            }
+        }
+    }
+
+// ---------------- METHOD BEING TESTED: intersects() ---------------- //
+
+    /**
+     * Purpose: Verifies that every pair of special bounds agrees with Range.intersects(double, double).
+     * Type of tests involved: boundary value testing
+     */
+    @Test
+    public void testIntersectsMatchesScalar() {
+        int n = VALUES.length * VALUES.length;
+        double[] b0 = new double[n];
+        double[] b1 = new double[n];
+        for (int i = 0; i < n; i++) {
+            b0[i] = VALUES[i / VALUES.length];
+            b1[i] = VALUES[i % VALUES.length];
+        }
+        long[] bits = new long[(n + 63) / 64];
+        for (Range range : RANGES) {
+            int count = RangeUtilities.intersects(range, b0, b1, 0, n, bits);
+            int expected = 0;
+            for (int i = 0; i < n; i++) {
+                boolean hit = range.intersects(b0[i], b1[i]);
+                expected += hit ? 1 : 0;
+                assertEquals(range + " [" + b0[i] + ", " + b1[i] + "]", hit, (bits[i >>> 6] & (1L << i)) != 0L);
+            }
+            assertEquals(expected, count);
+        }
+    }
+
+    /**
+     * Purpose: Verifies that a bitmap that is too short is reported as an exception.
+     * Type of tests involved: exception testing
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testIntersectsShortBitmap() {
+        RangeUtilities.intersects(new Range(0.0, 1.0), new double[65], new double[65], 0, 65, new long[1]);
+    }
+
+// ---------------- METHOD BEING TESTED: combineAll() / toRange() ---------------- //
+
+    /**
+     * Returns an array of random ranges, nulls, NaN ranges and ranges with a NaN lower bound.
+     */
+    private static Range[] randomRanges(int count, long seed) {
+        Random random = new Random(seed);
+        Range[] ranges = new Range[count];
+        for (int i = 0; i < count; i++) {
+            int kind = random.nextInt(10);
+            double a = random.nextGaussian() * 1e3;
+            if (kind == 0) {
+                ranges[i] = null;
+            }
+            else if (kind == 1) {
+                ranges[i] = new Range(Double.NaN, Double.NaN);
+            }
+            else if (kind == 2) {
+                ranges[i] = new Range(Double.NaN, a);
+            }
+            else {
+                ranges[i] = new Range(a, a + random.nextDouble());
+            }
+        }
+        return ranges;
+    }
+
+    /**
+     * Folds ranges sequentially with combineIgnoringNaN().
+     */
+    private static Range fold(Range[] ranges) {
+        Range result = null;
+        for (Range range : ranges) {
+            result = Range.combineIgnoringNaN(result, range);
+        }
+        return result;
+    }
+
+    /**
+     * Purpose: Verifies that the parallel array, collection and stream paths match a sequential fold exactly.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testCombineAllMatchesSequentialFold() {
+        Range[] ranges = randomRanges(5 * RangeUtilities.PARALLEL_THRESHOLD + 17, 24L);
+        Range expected = fold(ranges);
+        List<Range> list = Arrays.asList(ranges);
+        Range[] results = {
+            RangeUtilities.combineAll(ranges),
+            RangeUtilities.combineAll(list),
+            RangeUtilities.combineAll(new LinkedList<Range>(list)),
+            RangeUtilities.combineAll(list.parallelStream()),
+            list.stream().collect(RangeUtilities.toRange())
+        };
+        for (Range result : results) {
+            assertEquals(Double.doubleToLongBits(expected.getLowerBound()), Double.doubleToLongBits(result.getLowerBound()));
+            assertEquals(Double.doubleToLongBits(expected.getUpperBound()), Double.doubleToLongBits(result.getUpperBound()));
+        }
+    }
+
+    /**
+     * Purpose: Verifies the null results for empty input, only nulls and only NaN ranges, as combineIgnoringNaN gives.
+     * Type of tests involved: boundary value testing
+     */
+    @Test
+    public void testCombineAllNullResults() {
+        assertNull(RangeUtilities.combineAll(new Range[0]));
+        assertNull(RangeUtilities.combineAll(new Range[] {null, null}));
+        Range nan = new Range(Double.NaN, Double.NaN);
+        Range[] nans = new Range[RangeUtilities.PARALLEL_THRESHOLD * 3];
+        Arrays.fill(nans, nan);
+        assertNull(fold(nans));
+        assertNull(RangeUtilities.combineAll(nans));
+        assertNull(RangeUtilities.combineAll(Arrays.asList(nans).parallelStream()));
+        assertEquals(new Range(1.0, 2.0), RangeUtilities.combineAll(Arrays.asList(null, nan, new Range(1.0, 2.0))));
+    }
+
+// ---------------- METHOD BEING TESTED: findBounds() ---------------- //
+
+    /**
+     * Purpose: Verifies that the bounds of random data with NaN, infinities and signed zeros match folding expandToInclude over the non-NaN values.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testFindBoundsMatchesScalarFold() {
+        Random random = new Random(25L);
+        for (int trial = 0; trial < 200; trial++) {
+            int n = random.nextInt(40);
+            double[] values = new double[n];
+            for (int i = 0; i < n; i++) {
+                values[i] = VALUES[random.nextInt(VALUES.length)];
+            }
+            int stride = 1 + random.nextInt(3);
+            int offset = (n == 0) ? 0 : random.nextInt(n);
+            int count = (n - offset + stride - 1) / stride;
+            Range expected = null;
+            for (int k = 0; k < count; k++) {
+                double v = values[offset + k * stride];
+                expected = Range.combineIgnoringNaN(expected, new Range(v, v));
+            }
+            Range actual = RangeUtilities.findBounds(values, offset, count, stride);
+            if (expected == null) {
+                assertNull(actual);
+            }
+            else {
+                assertEquals(Double.doubleToLongBits(expected.getLowerBound()), Double.doubleToLongBits(actual.getLowerBound()));
+                assertEquals(Double.doubleToLongBits(expected.getUpperBound()), Double.doubleToLongBits(actual.getUpperBound()));
+            }
+        }
+    }
+
+    /**
+     * Purpose: Verifies whole-array, slice and interleaved x/y bounds for double and float data.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testFindBoundsArrays() {
+        double[] xy = {0.0, 5.0, 1.0, Double.NaN, 2.0, -3.0, 3.0, 4.0};
+        assertEquals(new Range(-3.0, 5.0), RangeUtilities.findBounds(xy));
+        assertEquals(new Range(0.0, 3.0), RangeUtilities.findBounds(xy, 0, 4, 2));
+        assertEquals(new Range(-3.0, 5.0), RangeUtilities.findBounds(xy, 1, 4, 2));
+        assertEquals(new Range(1.0, 2.0), RangeUtilities.findBounds(xy, 2, 3));
+        float[] floats = {Float.NaN, 0.1f, -7f, Float.NaN};
+        assertEquals(new Range(-7.0, (double) 0.1f), RangeUtilities.findBounds(floats));
+        assertEquals(new Range(-7.0, -7.0), RangeUtilities.findBounds(floats, 0, 2, 2));
+    }
+
+    /**
+     * Purpose: Verifies that empty and all-NaN input gives null.
+     * Type of tests involved: boundary value testing
+     */
+    @Test
+    public void testFindBoundsAllNaN() {
+        assertNull(RangeUtilities.findBounds(new double[0]));
+        assertNull(RangeUtilities.findBounds(new double[] {Double.NaN, Double.NaN, Double.NaN}));
+        assertNull(RangeUtilities.findBounds(new float[] {Float.NaN}));
+        assertNull(RangeUtilities.findBounds(new double[] {1.0, Double.NaN}, 1, 1));
+    }
+
+    /**
+     * Purpose: Verifies that a strided slice running past the end of the array is reported as an exception.
+     * Type of tests involved: exception testing
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testFindBoundsStrideOutOfBounds() {
+        RangeUtilities.findBounds(new double[6], 1, 4, 2);
+    }
+
+}
@@ -0,0 +1,537 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * RollingValues2D.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  Group 17;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G17);
+ * 18-Oct-2026 : Count values that could overflow the totals (G17);
+ *
+ */
+
+package org.jfree.data;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * A table of <code>double</code> values over a sliding window of rows,
+ * held in a ring buffer.  Rows are appended at the end and expired from the
+ * start (the oldest row is expired automatically when a row is appended to
+ * a full table), and row 0 is always the oldest row in the window.  This is
+ * the {@link Values2D} counterpart of the circular layout used by
+ * <code>DynamicTimeSeriesCollection</code>.
+ * <p>
+ * The table keeps a running total for every column, updated in O(columns)
+ * time per appended or expired row, so {@link #getColumnTotal(int)} does
+ * not need to visit the window.  Finite values are summed with
+ * compensation and infinite and NaN values are counted separately, so an
+ * expired infinity or NaN leaves no trace in the total.  The compensated
+ * totals are recalculated from the window each time as many rows have
+ * expired as the table can hold, which bounds the rounding error; the
+ * totals may still differ in the last bits from
+ * {@link DataUtilities#calculateColumnTotal(Values2D, int)}, which adds the
+ * window in row order.
+ * <p>
+ * Finite values so large that the window could overflow (at least
+ * <code>Double.MAX_VALUE / (2 * capacity)</code> in magnitude) are also
+ * counted rather than summed, so the compensated sums never overflow.
+ * While a column holds such a value its total is found by adding the
+ * window in row order, in O(rows) time, which gives exactly the result of
+ * <code>DataUtilities</code> (including any overflow to an infinity).
+ */
+public class RollingValues2D implements DoubleValues2D, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -6089173264819302731L;
+
+    /** The maximum number of rows in the window. */
+    private int capacity;
+
+    /** The number of columns. */
+    private int columnCount;
+
+    /** The ring buffer of rows (NaN for null cells). */
+    private double[] values;
+
+    /** A bitmap with one bit set for each null cell in the buffer. */
+    private long[] nulls;
+
+    /** The buffer slot of the oldest row. */
+    private int first;
+
+    /** The number of rows in the window. */
+    private int rowCount;
+
+    /** The number of rows expired since the totals were recalculated. */
+    private int expiredSinceRecalculation;
+
+    /** The magnitude from which a finite value counts as large. */
+    private double largeValue;
+
+    /** The compensated sum of the finite values in each column. */
+    private double[] sums;
+
+    /** The compensation term for each column sum. */
+    private double[] compensations;
+
+    /** The number of NaN values in each column. */
+    private int[] nanCounts;
+
+    /** The number of positive infinities in each column. */
+    private int[] positiveInfinityCounts;
+
+    /** The number of negative infinities in each column. */
+    private int[] negativeInfinityCounts;
+
+    /** The number of large finite values in each column. */
+    private int[] largeCounts;
+
+    /**
+     * Creates a new, empty table.
+     *
+     * @param capacity  the maximum number of rows in the window (&gt; 0).
+     * @param columnCount  the number of columns (&gt;= 0).
+     */
+    public RollingValues2D(int capacity, int columnCount) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Requires 'capacity' > 0.");
+        }
+        if (columnCount < 0) {
+            throw new IllegalArgumentException("Negative column count: "
+                    + columnCount);
+        }
+        long size = (long) capacity * columnCount;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Table too large: "
+                    + capacity + " x " + columnCount);
+        }
+        this.capacity = capacity;
+        this.columnCount = columnCount;
+        this.values = new double[(int) size];
+        this.nulls = new long[(int) ((size + 63) >>> 6)];
+        this.sums = new double[columnCount];
+        this.compensations = new double[columnCount];
+        this.nanCounts = new int[columnCount];
+        this.positiveInfinityCounts = new int[columnCount];
+        this.negativeInfinityCounts = new int[columnCount];
+        this.largeCounts = new int[columnCount];
+        this.largeValue = Double.MAX_VALUE / (2.0 * capacity);
+    }
+
+    /**
+     * Returns the maximum number of rows in the window.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Returns the number of rows in the window.
+     *
+     * @return The row count.
+     */
+    @Override
+    public int getRowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * Returns the number of columns in the table.
+     *
+     * @return The column count.
+     */
+    @Override
+    public int getColumnCount() {
+        return this.columnCount;
+    }
+
+    /**
+     * Returns a value from the table.
+     *
+     * @param row  the row index (zero-based, 0 is the oldest row).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (possibly <code>null</code>).
+     */
+    @Override
+    public Number getValue(int row, int column) {
+        int i = index(row, column);
+        if (isNullAt(i)) {
+            return null;
+        }
+        return new Double(this.values[i]);
+    }
+
+    /**
+     * Returns a value from the table as a primitive.
+     *
+     * @param row  the row index (zero-based, 0 is the oldest row).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (<code>Double.NaN</code> for a <code>null</code>
+     *         cell).
+     */
+    @Override
+    public double getDoubleValue(int row, int column) {
+        return this.values[index(row, column)];
+    }
+
+    /**
+     * Returns <code>true</code> if the specified cell holds no value.
+     *
+     * @param row  the row index (zero-based, 0 is the oldest row).
+     * @param column  the column index (zero-based).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean isNull(int row, int column) {
+        return isNullAt(index(row, column));
+    }
+
+    /**
+     * Appends a row to the window, expiring the oldest row first if the
+     * window is full.
+     *
+     * @param row  the row values (<code>null</code> not permitted, the
+     *     length must equal the column count).
+     */
+    public void appendRow(double[] row) {
+        ParamChecks.nullNotPermitted(row, "row");
+        checkRowLength(row.length);
+        int offset = nextSlot();
+        for (int c = 0; c < this.columnCount; c++) {
+            double v = row[c];
+            this.values[offset + c] = v;
+            clearNull(offset + c);
+            add(c, v, 1);
+        }
+    }
+
+    /**
+     * Appends a row to the window, expiring the oldest row first if the
+     * window is full.
+     *
+     * @param row  the row values (<code>null</code> not permitted, the
+     *     length must equal the column count, <code>null</code> cells
+     *     permitted).
+     */
+    public void appendRow(Number[] row) {
+        ParamChecks.nullNotPermitted(row, "row");
+        checkRowLength(row.length);
+        int offset = nextSlot();
+        for (int c = 0; c < this.columnCount; c++) {
+            Number n = row[c];
+            if (n == null) {
+                this.values[offset + c] = Double.NaN;
+                this.nulls[(offset + c) >>> 6] |= 1L << (offset + c);
+            }
+            else {
+                double v = n.doubleValue();
+                this.values[offset + c] = v;
+                clearNull(offset + c);
+                add(c, v, 1);
+            }
+        }
+    }
+
+    /**
+     * Expires the oldest rows from the window.
+     *
+     * @param count  the number of rows to expire (in the range
+     *     <code>0</code> to <code>getRowCount()</code>).
+     */
+    public void expireRows(int count) {
+        if (count < 0 || count > this.rowCount) {
+            throw new IllegalArgumentException("Cannot expire " + count
+                    + " of " + this.rowCount + " rows.");
+        }
+        for (int i = 0; i < count; i++) {
+            expireFirst();
+        }
+    }
+
+    /**
+     * Removes every row from the window.
+     */
+    public void clear() {
+        this.first = 0;
+        this.rowCount = 0;
+        this.expiredSinceRecalculation = 0;
+        resetTotals();
+    }
+
+    /**
+     * Returns the total of the values in one column of the window.  This
+     * takes O(1) time unless the column holds a value large enough to
+     * overflow the total (see the class description).
+     *
+     * @param column  the column index (zero-based).
+     *
+     * @return The total.
+     */
+    public double getColumnTotal(int column) {
+        if (column < 0 || column >= this.columnCount) {
+            throw new IndexOutOfBoundsException("Column index out of bounds: "
+                    + column);
+        }
+        if (this.largeCounts[column] > 0) {
+            return sumColumn(column);
+        }
+        if (this.nanCounts[column] > 0
+                || (this.positiveInfinityCounts[column] > 0
+                && this.negativeInfinityCounts[column] > 0)) {
+            return Double.NaN;
+        }
+        if (this.positiveInfinityCounts[column] > 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        if (this.negativeInfinityCounts[column] > 0) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        return this.sums[column] + this.compensations[column];
+    }
+
+    /**
+     * Returns the totals of every column in the window.
+     *
+     * @param result  receives the totals (<code>null</code> permitted, in
+     *     which case a new array is allocated).
+     *
+     * @return The totals.
+     */
+    public double[] getColumnTotals(double[] result) {
+        if (result == null) {
+            result = new double[this.columnCount];
+        }
+        else if (result.length < this.columnCount) {
+            throw new IllegalArgumentException("Array 'result' has length "
+                    + result.length + ", requires " + this.columnCount);
+        }
+        for (int c = 0; c < this.columnCount; c++) {
+            result[c] = getColumnTotal(c);
+        }
+        return result;
+    }
+
+    /**
+     * Expires the oldest row if the window is full and returns the buffer
+     * offset for a new row, which is added to the window.
+     *
+     * @return The offset of the new row.
+     */
+    private int nextSlot() {
+        if (this.rowCount == this.capacity) {
+            expireFirst();
+        }
+        int slot = this.first + this.rowCount;
+        if (slot >= this.capacity) {
+            slot -= this.capacity;
+        }
+        this.rowCount++;
+        return slot * this.columnCount;
+    }
+
+    /**
+     * Expires the oldest row, recalculating the totals once as many rows
+     * have expired as the table can hold.
+     */
+    private void expireFirst() {
+        int offset = this.first * this.columnCount;
+        for (int c = 0; c < this.columnCount; c++) {
+            if (!isNullAt(offset + c)) {
+                add(c, this.values[offset + c], -1);
+            }
+        }
+        this.first++;
+        if (this.first == this.capacity) {
+            this.first = 0;
+        }
+        this.rowCount--;
+        this.expiredSinceRecalculation++;
+        if (this.expiredSinceRecalculation >= this.capacity) {
+            recalculateTotals();
+        }
+    }
+
+    /**
+     * Recalculates the column totals from the rows in the window.
+     */
+    private void recalculateTotals() {
+        resetTotals();
+        for (int r = 0; r < this.rowCount; r++) {
+            int slot = this.first + r;
+            if (slot >= this.capacity) {
+                slot -= this.capacity;
+            }
+            int offset = slot * this.columnCount;
+            for (int c = 0; c < this.columnCount; c++) {
+                if (!isNullAt(offset + c)) {
+                    add(c, this.values[offset + c], 1);
+                }
+            }
+        }
+        this.expiredSinceRecalculation = 0;
+    }
+
+    /**
+     * Adds the values in one column of the window in row order, in the
+     * same way as <code>DataUtilities</code>.
+     *
+     * @param column  the column index.
+     *
+     * @return The total.
+     */
+    private double sumColumn(int column) {
+        double total = 0.0;
+        for (int r = 0; r < this.rowCount; r++) {
+            int slot = this.first + r;
+            if (slot >= this.capacity) {
+                slot -= this.capacity;
+            }
+            int i = slot * this.columnCount + column;
+            if (!isNullAt(i)) {
+                total += this.values[i];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Resets every column total to zero.
+     */
+    private void resetTotals() {
+        Arrays.fill(this.largeCounts, 0);
+        Arrays.fill(this.sums, 0.0);
+        Arrays.fill(this.compensations, 0.0);
+        Arrays.fill(this.nanCounts, 0);
+        Arrays.fill(this.positiveInfinityCounts, 0);
+        Arrays.fill(this.negativeInfinityCounts, 0);
+    }
+
+    /**
+     * Adds a value to, or removes a value from, a column total.
+     *
+     * @param column  the column index.
+     * @param v  the value.
+     * @param sign  1 to add the value, -1 to remove it.
+     */
+    private void add(int column, double v, int sign) {
+        if (Double.isNaN(v)) {
+            this.nanCounts[column] += sign;
+        }
+        else if (v == Double.POSITIVE_INFINITY) {
+            this.positiveInfinityCounts[column] += sign;
+        }
+        else if (v == Double.NEGATIVE_INFINITY) {
+            this.negativeInfinityCounts[column] += sign;
+        }
+        else if (Math.abs(v) >= this.largeValue) {
+            this.largeCounts[column] += sign;
+        }
+        else {
+            // Neumaier's variant of Kahan summation
+            double x = sign * v;
+            double sum = this.sums[column];
+            double t = sum + x;
+            if (Math.abs(sum) >= Math.abs(x)) {
+                this.compensations[column] += (sum - t) + x;
+            }
+            else {
+                this.compensations[column] += (x - t) + sum;
+            }
+            this.sums[column] = t;
+        }
+    }
+
+    /**
+     * Checks the length of a row being appended.
+     *
+     * @param length  the length.
+     */
+    private void checkRowLength(int length) {
+        if (length != this.columnCount) {
+            throw new IllegalArgumentException("Row has length " + length
+                    + ", expected " + this.columnCount);
+        }
+    }
+
+    /**
+     * Returns the buffer offset of a cell, after checking the indices.
+     *
+     * @param row  the row index (zero-based, 0 is the oldest row).
+     * @param column  the column index (zero-based).
+     *
+     * @return The offset.
+     */
+    private int index(int row, int column) {
+        if (row < 0 || row >= this.rowCount) {
+            throw new IndexOutOfBoundsException("Row index out of bounds: "
+                    + row);
+        }
+        if (column < 0 || column >= this.columnCount) {
+            throw new IndexOutOfBoundsException("Column index out of bounds: "
+                    + column);
+        }
+        int slot = this.first + row;
+        if (slot >= this.capacity) {
+            slot -= this.capacity;
+        }
+        return slot * this.columnCount + column;
+    }
+
+    /**
+     * Clears the null flag of the cell at the given offset.
+     *
+     * @param i  the offset.
+     */
+    private void clearNull(int i) {
+        this.nulls[i >>> 6] &= ~(1L << i);
+    }
+
+    /**
+     * Returns <code>true</code> if the cell at the given offset is null.
+     *
+     * @param i  the offset.
+     *
+     * @return A boolean.
+     */
+    private boolean isNullAt(int i) {
+        return (this.nulls[i >>> 6] & (1L << i)) != 0L;
+    }
+
+}
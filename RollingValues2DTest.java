@@ -0,0 +1,135 @@
+package org.jfree.data;
+
+import static org.junit.Assert.*;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * @author group17
+ *
+ */
+
+public class RollingValues2DTest {
+
+// ---------------- METHOD BEING TESTED: appendRow() / expireRows() ---------------- //
+
+    /**
+     * Purpose: Verifies that appending to a full window expires the oldest row and that row 0 is the oldest row.
+     * Type of tests involved: boundary value testing
+     */
+    @Test
+    public void testAppendToFullWindowExpiresOldest() {
+        RollingValues2D table = new RollingValues2D(3, 2);
+        for (int i = 1; i <= 5; i++) {
+            table.appendRow(new double[] {i, 10 * i});
+        }
+        assertEquals(3, table.getRowCount());
+        assertEquals(3.0, table.getDoubleValue(0, 0), 0.0);
+        assertEquals(50.0, table.getValue(2, 1).doubleValue(), 0.0);
+        assertEquals(12.0, table.getColumnTotal(0), 0.0);
+        assertEquals(120.0, table.getColumnTotal(1), 0.0);
+    }
+
+    /**
+     * Purpose: Verifies that the rolling totals track DataUtilities over every window of a long random sequence.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testTotalsTrackDataUtilities() {
+        RollingValues2D table = new RollingValues2D(7, 3);
+        Random random = new Random(438L);
+        for (int i = 0; i < 500; i++) {
+            Number[] row = new Number[3];
+            for (int c = 0; c < 3; c++) {
+                row[c] = (random.nextInt(5) == 0) ? null : new Double(random.nextGaussian() * 1e6);
+            }
+            table.appendRow(row);
+            if (i % 11 == 0) {
+                table.expireRows(Math.min(2, table.getRowCount()));
+            }
+            for (int c = 0; c < 3; c++) {
+                assertEquals(DataUtilities.calculateColumnTotal(table, c), table.getColumnTotal(c), 1e-6);
+            }
+        }
+    }
+
+    /**
+     * Purpose: Verifies that an expired infinity or NaN no longer affects the total.
+     * Type of tests involved: boundary value testing
+     */
+    @Test
+    public void testExpiredNonFiniteValues() {
+        RollingValues2D table = new RollingValues2D(2, 2);
+        table.appendRow(new double[] {Double.POSITIVE_INFINITY, Double.NaN});
+        table.appendRow(new double[] {Double.NEGATIVE_INFINITY, 1.0});
+        assertTrue(Double.isNaN(table.getColumnTotal(0)));
+        assertTrue(Double.isNaN(table.getColumnTotal(1)));
+        table.expireRows(1);
+        assertEquals(Double.NEGATIVE_INFINITY, table.getColumnTotal(0), 0.0);
+        assertEquals(1.0, table.getColumnTotal(1), 0.0);
+    }
+
+    /**
+     * Purpose: Verifies that finite overflow and infinities give the same totals as DataUtilities as rows
+     * are appended and expired.
+     * Type of tests involved: boundary value testing
+     */
+    @Test
+    public void testOverflowMatchesDataUtilities() {
+        double big = 1.7e308;
+        double[][] rows = {{big, big, 1.0}, {big, -big, Double.POSITIVE_INFINITY}, {-big, big, 2.0},
+            {-big, Double.NEGATIVE_INFINITY, -big}, {1.0, 2.0, 3.0}, {2.0, 3.0, 4.0}, {3.0, 4.0, 5.0}};
+        RollingValues2D table = new RollingValues2D(3, 3);
+        for (int i = 0; i < rows.length; i++) {
+            table.appendRow(rows[i]);
+            for (int c = 0; c < 3; c++) {
+                assertSameTotal(DataUtilities.calculateColumnTotal(table, c), table.getColumnTotal(c));
+            }
+        }
+        assertEquals(6.0, table.getColumnTotal(0), 0.0);
+    }
+
+    private static void assertSameTotal(double expected, double actual) {
+        assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(actual));
+    }
+
+    /**
+     * Purpose: Verifies that null cells are skipped and kept apart from NaN.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testNullCells() {
+        RollingValues2D table = new RollingValues2D(2, 2);
+        table.appendRow(new Number[] {null, new Double(2.0)});
+        assertTrue(table.isNull(0, 0));
+        assertNull(table.getValue(0, 0));
+        assertEquals(0.0, table.getColumnTotal(0), 0.0);
+        table.appendRow(new double[] {1.0, 1.0});
+        table.appendRow(new double[] {1.0, 1.0});
+        assertFalse(table.isNull(1, 0));
+        assertArrayEquals(new double[] {2.0, 2.0}, table.getColumnTotals(null), 0.0);
+    }
+
+    /**
+     * Purpose: Verifies that expiring more rows than the window holds is rejected.
+     * Type of tests involved: exception testing
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testExpireTooManyRows() {
+        RollingValues2D table = new RollingValues2D(2, 1);
+        table.appendRow(new double[] {1.0});
+        table.expireRows(2);
+    }
+
+    /**
+     * Purpose: Verifies that a row index beyond the window is reported as an exception.
+     * Type of tests involved: exception testing
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetValueOutsideWindow() {
+        RollingValues2D table = new RollingValues2D(4, 1);
+        table.appendRow(new double[] {1.0});
+        table.getValue(1, 0);
+    }
+
+}
@@ -0,0 +1,528 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * SparseValues2D.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  Group 17;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G17);
+ *
+ */
+
+package org.jfree.data;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.BitSet;
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * An immutable sparse table of <code>double</code> values, in which only
+ * the non-<code>null</code> cells are stored.  The cells are held twice,
+ * in compressed sparse row (CSR) and compressed sparse column (CSC) form,
+ * so that a row or column total visits only the stored cells of that row
+ * or column.  {@link PrimitiveDataUtilities} uses the total methods of this
+ * class automatically.
+ * <p>
+ * Within a row (or column) the cells are kept in column (or row) order, so
+ * the totals add the values in the same order as the
+ * {@link DataUtilities} methods and the results are identical.
+ */
+public class SparseValues2D implements DoubleValues2D, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 1937120465521873510L;
+
+    /** The number of rows. */
+    private int rowCount;
+
+    /** The number of columns. */
+    private int columnCount;
+
+    /** The start of each row in the CSR arrays (length rowCount + 1). */
+    private int[] rowStart;
+
+    /** The column index of each stored cell, row by row. */
+    private int[] rowCells;
+
+    /** The value of each stored cell, row by row. */
+    private double[] rowValues;
+
+    /** The start of each column in the CSC arrays (length columnCount + 1). */
+    private int[] columnStart;
+
+    /** The row index of each stored cell, column by column. */
+    private int[] columnCells;
+
+    /** The value of each stored cell, column by column. */
+    private double[] columnValues;
+
+    /**
+     * Creates a new table from a list of (row, column, value) entries, in
+     * any order.  All other cells are <code>null</code>.
+     *
+     * @param rowCount  the number of rows (&gt;= 0).
+     * @param columnCount  the number of columns (&gt;= 0).
+     * @param rows  the row index of each entry (<code>null</code> not
+     *     permitted).
+     * @param columns  the column index of each entry (<code>null</code> not
+     *     permitted).
+     * @param values  the value of each entry (<code>null</code> not
+     *     permitted).
+     */
+    public SparseValues2D(int rowCount, int columnCount, int[] rows,
+            int[] columns, double[] values) {
+        ParamChecks.nullNotPermitted(rows, "rows");
+        ParamChecks.nullNotPermitted(columns, "columns");
+        ParamChecks.nullNotPermitted(values, "values");
+        if (rowCount < 0 || columnCount < 0) {
+            throw new IllegalArgumentException("Negative table dimension: "
+                    + rowCount + " x " + columnCount);
+        }
+        int n = values.length;
+        if (rows.length != n || columns.length != n) {
+            throw new IllegalArgumentException(
+                    "The entry arrays must have the same length.");
+        }
+        for (int i = 0; i < n; i++) {
+            if (rows[i] < 0 || rows[i] >= rowCount || columns[i] < 0
+                    || columns[i] >= columnCount) {
+                throw new IllegalArgumentException("Entry " + i + " ("
+                        + rows[i] + ", " + columns[i] + ") is outside the "
+                        + rowCount + " x " + columnCount + " table.");
+            }
+        }
+        this.rowCount = rowCount;
+        this.columnCount = columnCount;
+        this.rowStart = new int[rowCount + 1];
+        this.rowCells = new int[n];
+        this.rowValues = new double[n];
+        this.columnStart = new int[columnCount + 1];
+        this.columnCells = new int[n];
+        this.columnValues = new double[n];
+
+        // build the CSC form with a counting sort by column, keeping the
+        // input order within each column...
+        for (int i = 0; i < n; i++) {
+            this.columnStart[columns[i] + 1]++;
+        }
+        for (int c = 0; c < columnCount; c++) {
+            this.columnStart[c + 1] += this.columnStart[c];
+        }
+        int[] next = Arrays.copyOf(this.columnStart, columnCount);
+        int[] byColumn = new int[n];
+        for (int i = 0; i < n; i++) {
+            byColumn[next[columns[i]]++] = i;
+        }
+        // ...then a stable counting sort of that order by row gives the CSR
+        // form sorted by column within each row
+        for (int i = 0; i < n; i++) {
+            this.rowStart[rows[i] + 1]++;
+        }
+        for (int r = 0; r < rowCount; r++) {
+            this.rowStart[r + 1] += this.rowStart[r];
+        }
+        next = Arrays.copyOf(this.rowStart, rowCount);
+        for (int k = 0; k < n; k++) {
+            int i = byColumn[k];
+            int p = next[rows[i]]++;
+            this.rowCells[p] = columns[i];
+            this.rowValues[p] = values[i];
+        }
+        // finally, walking the CSR form in row order fills the CSC form
+        // sorted by row within each column
+        next = Arrays.copyOf(this.columnStart, columnCount);
+        for (int r = 0; r < rowCount; r++) {
+            for (int p = this.rowStart[r]; p < this.rowStart[r + 1]; p++) {
+                if (p > this.rowStart[r]
+                        && this.rowCells[p] == this.rowCells[p - 1]) {
+                    throw new IllegalArgumentException("Duplicate entry ("
+                            + r + ", " + this.rowCells[p] + ").");
+                }
+                int q = next[this.rowCells[p]]++;
+                this.columnCells[q] = r;
+                this.columnValues[q] = this.rowValues[p];
+            }
+        }
+    }
+
+    /**
+     * Creates a sparse copy of a table, storing only its
+     * non-<code>null</code> cells.
+     *
+     * @param data  the table (<code>null</code> not permitted).
+     *
+     * @return A sparse table.
+     */
+    public static SparseValues2D of(Values2D data) {
+        ParamChecks.nullNotPermitted(data, "data");
+        int rowCount = data.getRowCount();
+        int columnCount = data.getColumnCount();
+        int capacity = 16;
+        int[] rows = new int[capacity];
+        int[] columns = new int[capacity];
+        double[] values = new double[capacity];
+        int n = 0;
+        for (int r = 0; r < rowCount; r++) {
+            for (int c = 0; c < columnCount; c++) {
+                Number v = data.getValue(r, c);
+                if (v != null) {
+                    if (n == capacity) {
+                        capacity *= 2;
+                        rows = Arrays.copyOf(rows, capacity);
+                        columns = Arrays.copyOf(columns, capacity);
+                        values = Arrays.copyOf(values, capacity);
+                    }
+                    rows[n] = r;
+                    columns[n] = c;
+                    values[n] = v.doubleValue();
+                    n++;
+                }
+            }
+        }
+        return new SparseValues2D(rowCount, columnCount,
+                Arrays.copyOf(rows, n), Arrays.copyOf(columns, n),
+                Arrays.copyOf(values, n));
+    }
+
+    /**
+     * Returns the number of rows in the table.
+     *
+     * @return The row count.
+     */
+    @Override
+    public int getRowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * Returns the number of columns in the table.
+     *
+     * @return The column count.
+     */
+    @Override
+    public int getColumnCount() {
+        return this.columnCount;
+    }
+
+    /**
+     * Returns the number of stored (non-<code>null</code>) cells.
+     *
+     * @return The cell count.
+     */
+    public int getStoredCount() {
+        return this.rowValues.length;
+    }
+
+    /**
+     * Returns a value from the table.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (possibly <code>null</code>).
+     */
+    @Override
+    public Number getValue(int row, int column) {
+        int p = find(row, column);
+        return (p < 0) ? null : new Double(this.rowValues[p]);
+    }
+
+    /**
+     * Returns a value from the table as a primitive.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (<code>Double.NaN</code> for a <code>null</code>
+     *         cell).
+     */
+    @Override
+    public double getDoubleValue(int row, int column) {
+        int p = find(row, column);
+        return (p < 0) ? Double.NaN : this.rowValues[p];
+    }
+
+    /**
+     * Returns <code>true</code> if the specified cell holds no value.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean isNull(int row, int column) {
+        return find(row, column) < 0;
+    }
+
+    /**
+     * Returns the total of the stored values in one column.
+     *
+     * @param column  the column index (zero-based).
+     *
+     * @return The total.
+     *
+     * @see DataUtilities#calculateColumnTotal(Values2D, int)
+     */
+    public double getColumnTotal(int column) {
+        if (this.rowCount == 0) {
+            return 0.0;
+        }
+        checkColumn(column);
+        double total = 0.0;
+        for (int p = this.columnStart[column];
+                p < this.columnStart[column + 1]; p++) {
+            total += this.columnValues[p];
+        }
+        return total;
+    }
+
+    /**
+     * Returns the total of the stored values in one row.
+     *
+     * @param row  the row index (zero-based).
+     *
+     * @return The total.
+     *
+     * @see DataUtilities#calculateRowTotal(Values2D, int)
+     */
+    public double getRowTotal(int row) {
+        if (this.columnCount == 0) {
+            return 0.0;
+        }
+        checkRow(row);
+        double total = 0.0;
+        for (int p = this.rowStart[row]; p < this.rowStart[row + 1]; p++) {
+            total += this.rowValues[p];
+        }
+        return total;
+    }
+
+    /**
+     * Returns the total of the stored values in one column, taking only
+     * the listed rows into account.  Each listed row costs a binary search
+     * of the column's stored cells.
+     *
+     * @param column  the column index (zero-based).
+     * @param validRows  the valid rows (<code>null</code> not permitted).
+     *
+     * @return The total.
+     *
+     * @see DataUtilities#calculateColumnTotal(Values2D, int, int[])
+     */
+    public double getColumnTotal(int column, int[] validRows) {
+        double total = 0.0;
+        for (int v = 0; v < validRows.length; v++) {
+            int row = validRows[v];
+            if (row < this.rowCount) {
+                int p = find(row, column, this.columnStart, this.columnCells,
+                        column, row);
+                if (p >= 0) {
+                    total += this.columnValues[p];
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns the total of the stored values in one row, taking only the
+     * listed columns into account.  Each listed column costs a binary
+     * search of the row's stored cells.
+     *
+     * @param row  the row index (zero-based).
+     * @param validCols  the valid columns (<code>null</code> not permitted).
+     *
+     * @return The total.
+     *
+     * @see DataUtilities#calculateRowTotal(Values2D, int, int[])
+     */
+    public double getRowTotal(int row, int[] validCols) {
+        double total = 0.0;
+        for (int v = 0; v < validCols.length; v++) {
+            int col = validCols[v];
+            if (col < this.columnCount) {
+                int p = find(row, col, this.rowStart, this.rowCells, row,
+                        col);
+                if (p >= 0) {
+                    total += this.rowValues[p];
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns the total of the stored values in one column, taking only the
+     * rows whose bits are set in a mask into account.  Only the column's
+     * stored cells are visited.
+     *
+     * @param column  the column index (zero-based).
+     * @param validRows  the mask of valid rows (<code>null</code> not
+     *     permitted).
+     *
+     * @return The total.
+     */
+    public double getColumnTotal(int column, BitSet validRows) {
+        int first = validRows.nextSetBit(0);
+        if (first < 0 || first >= this.rowCount) {
+            return 0.0;
+        }
+        checkColumn(column);
+        double total = 0.0;
+        for (int p = this.columnStart[column];
+                p < this.columnStart[column + 1]; p++) {
+            if (validRows.get(this.columnCells[p])) {
+                total += this.columnValues[p];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns the total of the stored values in one row, taking only the
+     * columns whose bits are set in a mask into account.  Only the row's
+     * stored cells are visited.
+     *
+     * @param row  the row index (zero-based).
+     * @param validCols  the mask of valid columns (<code>null</code> not
+     *     permitted).
+     *
+     * @return The total.
+     */
+    public double getRowTotal(int row, BitSet validCols) {
+        int first = validCols.nextSetBit(0);
+        if (first < 0 || first >= this.columnCount) {
+            return 0.0;
+        }
+        checkRow(row);
+        double total = 0.0;
+        for (int p = this.rowStart[row]; p < this.rowStart[row + 1]; p++) {
+            if (validCols.get(this.rowCells[p])) {
+                total += this.rowValues[p];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Calculates every row total and every column total in one pass over
+     * the stored cells.
+     *
+     * @param rowTotals  receives the row totals (<code>null</code>
+     *     permitted).
+     * @param columnTotals  receives the column totals (<code>null</code>
+     *     permitted).
+     *
+     * @see PrimitiveDataUtilities#calculateTotals(Values2D, double[],
+     *     double[])
+     */
+    public void getTotals(double[] rowTotals, double[] columnTotals) {
+        if (columnTotals != null) {
+            Arrays.fill(columnTotals, 0, this.columnCount, 0.0);
+        }
+        for (int r = 0; r < this.rowCount; r++) {
+            double total = 0.0;
+            for (int p = this.rowStart[r]; p < this.rowStart[r + 1]; p++) {
+                double v = this.rowValues[p];
+                total += v;
+                if (columnTotals != null) {
+                    columnTotals[this.rowCells[p]] += v;
+                }
+            }
+            if (rowTotals != null) {
+                rowTotals[r] = total;
+            }
+        }
+    }
+
+    /**
+     * Returns the position of a cell in the CSR arrays, or -1 if the cell
+     * is not stored.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The position.
+     */
+    private int find(int row, int column) {
+        return find(row, column, this.rowStart, this.rowCells, row, column);
+    }
+
+    /**
+     * Checks the indices of a cell and returns its position in one of the
+     * compressed forms, or -1 if the cell is not stored.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     * @param start  the line start array of the compressed form.
+     * @param cells  the cell index array of the compressed form.
+     * @param line  the line to search (the row for CSR).
+     * @param position  the index to find within the line.
+     *
+     * @return The position.
+     */
+    private int find(int row, int column, int[] start, int[] cells, int line,
+            int position) {
+        checkRow(row);
+        checkColumn(column);
+        int p = Arrays.binarySearch(cells, start[line], start[line + 1],
+                position);
+        return (p >= 0) ? p : -1;
+    }
+
+    /**
+     * Checks a row index.
+     *
+     * @param row  the row index.
+     */
+    private void checkRow(int row) {
+        if (row < 0 || row >= this.rowCount) {
+            throw new IndexOutOfBoundsException("Row index out of bounds: "
+                    + row);
+        }
+    }
+
+    /**
+     * Checks a column index.
+     *
+     * @param column  the column index.
+     */
+    private void checkColumn(int column) {
+        if (column < 0 || column >= this.columnCount) {
+            throw new IndexOutOfBoundsException("Column index out of bounds: "
+                    + column);
+        }
+    }
+
+}
@@ -0,0 +1,156 @@
+package org.jfree.data;
+
+import static org.junit.Assert.*;
+import java.util.BitSet;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author group17
+ *
+ */
+
+public class SparseValues2DTest {
+
+    private DefaultDoubleValues2D dense;
+    private SparseValues2D sparse;
+
+    @Before
+    public void setUp() {
+        this.dense = new DefaultDoubleValues2D(4, 5);
+        this.dense.setValue(0, 1, 1e16);
+        this.dense.setValue(1, 1, 0.1);
+        this.dense.setValue(3, 1, -1e16);
+        this.dense.setValue(2, 0, 2.5);
+        this.dense.setValue(2, 4, Double.NaN);
+        this.dense.setValue(3, 3, 0.7);
+        // entries deliberately out of order
+        this.sparse = new SparseValues2D(4, 5,
+                new int[] {3, 2, 0, 3, 1, 2},
+                new int[] {3, 4, 1, 1, 1, 0},
+                new double[] {0.7, Double.NaN, 1e16, -1e16, 0.1, 2.5});
+    }
+
+// ---------------- METHOD BEING TESTED: getValue() / isNull() ---------------- //
+
+    /**
+     * Purpose: Verifies that stored cells are returned, unstored cells are null, and a stored NaN is not null.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testGetValue() {
+        assertEquals(6, this.sparse.getStoredCount());
+        assertEquals(0.1, this.sparse.getValue(1, 1).doubleValue(), 0.0);
+        assertNull(this.sparse.getValue(1, 2));
+        assertTrue(this.sparse.isNull(0, 0));
+        assertFalse(this.sparse.isNull(2, 4));
+        assertTrue(Double.isNaN(this.sparse.getDoubleValue(2, 4)));
+    }
+
+    /**
+     * Purpose: Verifies that a copy made with of() holds the same cells as the source.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testOf() {
+        SparseValues2D copy = SparseValues2D.of(this.dense);
+        assertEquals(6, copy.getStoredCount());
+        for (int r = 0; r < 4; r++) {
+            for (int c = 0; c < 5; c++) {
+                assertEquals(this.dense.getValue(r, c), copy.getValue(r, c));
+            }
+        }
+    }
+
+    /**
+     * Purpose: Verifies that a duplicate entry is rejected.
+     * Type of tests involved: exception testing
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicateEntry() {
+        new SparseValues2D(2, 2, new int[] {1, 1}, new int[] {0, 0}, new double[] {1.0, 2.0});
+    }
+
+    /**
+     * Purpose: Verifies that an invalid column index is reported as an exception.
+     * Type of tests involved: exception testing
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetValueInvalidColumn() {
+        this.sparse.getValue(0, 5);
+    }
+
+// ---------------- METHOD BEING TESTED: PrimitiveDataUtilities totals ---------------- //
+
+    /**
+     * Purpose: Verifies that every row and column total matches DataUtilities over the dense table, bit for bit.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testTotalsMatchDataUtilities() {
+        for (int c = 0; c < 5; c++) {
+            assertEquals("Column " + c, Double.doubleToLongBits(DataUtilities.calculateColumnTotal(this.dense, c)),
+                    Double.doubleToLongBits(PrimitiveDataUtilities.calculateColumnTotal(this.sparse, c)));
+        }
+        for (int r = 0; r < 4; r++) {
+            assertEquals("Row " + r, Double.doubleToLongBits(DataUtilities.calculateRowTotal(this.dense, r)),
+                    Double.doubleToLongBits(PrimitiveDataUtilities.calculateRowTotal(this.sparse, r)));
+        }
+        assertEquals(0.0, PrimitiveDataUtilities.calculateColumnTotal(this.sparse, 1), 0.0);
+    }
+
+    /**
+     * Purpose: Verifies that the single-pass bulk totals match the dense bulk totals.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testBulkTotals() {
+        double[] rows = new double[4];
+        double[] cols = new double[5];
+        PrimitiveDataUtilities.calculateTotals(this.sparse, rows, cols);
+        assertArrayEquals(PrimitiveDataUtilities.calculateRowTotals(this.dense), rows, 0.0);
+        assertArrayEquals(PrimitiveDataUtilities.calculateColumnTotals(this.dense), cols, 0.0);
+    }
+
+    /**
+     * Purpose: Verifies that the valid index overloads follow the listed order and ignore indices beyond the count.
+     * Type of tests involved: boundary value testing
+     */
+    @Test
+    public void testValidIndexTotals() {
+        int[] rows = {3, 1, 0, 9, 1};
+        assertEquals(Double.doubleToLongBits(DataUtilities.calculateColumnTotal(this.dense, 1, rows)),
+                Double.doubleToLongBits(PrimitiveDataUtilities.calculateColumnTotal(this.sparse, 1, rows)));
+        int[] cols = {4, 0, 7};
+        assertEquals(Double.doubleToLongBits(DataUtilities.calculateRowTotal(this.dense, 2, cols)),
+                Double.doubleToLongBits(PrimitiveDataUtilities.calculateRowTotal(this.sparse, 2, cols)));
+        assertEquals(0.0, PrimitiveDataUtilities.calculateColumnTotal(this.sparse, 2, rows), 0.0);
+    }
+
+    /**
+     * Purpose: Verifies that the mask overloads visit only the selected stored cells.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testMaskTotals() {
+        BitSet mask = new BitSet();
+        mask.set(0);
+        mask.set(1);
+        mask.set(3);
+        mask.set(40);
+        double[] expected = PrimitiveDataUtilities.calculateColumnTotals(this.dense, mask);
+        assertArrayEquals(expected, PrimitiveDataUtilities.calculateColumnTotals(this.sparse, mask), 0.0);
+        assertEquals(2.5, PrimitiveDataUtilities.calculateRowTotal(this.sparse, 2, mask), 0.0);
+        assertEquals(0.0, PrimitiveDataUtilities.calculateColumnTotal(this.sparse, 9, new BitSet()), 0.0);
+    }
+
+    /**
+     * Purpose: Verifies that an invalid row index is reported as an exception by the row total.
+     * Type of tests involved: exception testing
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testRowTotalInvalidRow() {
+        PrimitiveDataUtilities.calculateRowTotal(this.sparse, -1);
+    }
+
+}
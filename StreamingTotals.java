@@ -0,0 +1,289 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * StreamingTotals.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  Group 17;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G17);
+ *
+ */
+
+package org.jfree.data;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * Accumulates column totals over a table that is supplied a row (or a
+ * chunk of rows) at a time, so that tables too large to hold in memory can
+ * be totalled.  Only the running column totals are kept, so the memory
+ * used is proportional to the number of columns.
+ * <p>
+ * Cells are added in the order they are supplied, and <code>null</code>
+ * cells are skipped, so after the whole table has been fed in order each
+ * column total is exactly the value that
+ * {@link DataUtilities#calculateColumnTotal(Values2D, int)} would return,
+ * and each row total returned along the way is exactly the value of
+ * {@link DataUtilities#calculateRowTotal(Values2D, int)}.
+ */
+public class StreamingTotals {
+
+    /** The running column totals. */
+    private double[] columnTotals;
+
+    /** The number of rows added so far. */
+    private long rowCount;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param columnCount  the number of columns (&gt;= 0).
+     */
+    public StreamingTotals(int columnCount) {
+        if (columnCount < 0) {
+            throw new IllegalArgumentException("Negative 'columnCount'.");
+        }
+        this.columnTotals = new double[columnCount];
+    }
+
+    /**
+     * Calculates the column totals of a stream of rows.
+     *
+     * @param rows  the rows (<code>null</code> not permitted).
+     * @param columnCount  the number of columns (&gt;= 0).
+     *
+     * @return An array holding one total per column.
+     */
+    public static double[] calculateColumnTotals(Iterator<double[]> rows,
+            int columnCount) {
+        StreamingTotals totals = new StreamingTotals(columnCount);
+        totals.addRows(rows);
+        return totals.getColumnTotals();
+    }
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return The column count.
+     */
+    public int getColumnCount() {
+        return this.columnTotals.length;
+    }
+
+    /**
+     * Returns the number of rows added so far.
+     *
+     * @return The row count.
+     */
+    public long getRowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * Adds a row in which every cell holds a value.  The row may be shorter
+     * than the column count, in which case the missing cells are treated as
+     * <code>null</code>.
+     *
+     * @param row  the row (<code>null</code> not permitted).
+     *
+     * @return The total of the row.
+     */
+    public double addRow(double[] row) {
+        ParamChecks.nullNotPermitted(row, "row");
+        checkRowLength(row.length);
+        double total = 0.0;
+        for (int c = 0; c < row.length; c++) {
+            double v = row[c];
+            total += v;
+            this.columnTotals[c] += v;
+        }
+        this.rowCount++;
+        return total;
+    }
+
+    /**
+     * Adds a row that may contain <code>null</code> cells.  The row may be
+     * shorter than the column count, in which case the missing cells are
+     * treated as <code>null</code>.
+     *
+     * @param row  the row (<code>null</code> not permitted).
+     *
+     * @return The total of the row.
+     */
+    public double addRow(Number[] row) {
+        ParamChecks.nullNotPermitted(row, "row");
+        checkRowLength(row.length);
+        double total = 0.0;
+        for (int c = 0; c < row.length; c++) {
+            Number n = row[c];
+            if (n != null) {
+                double v = n.doubleValue();
+                total += v;
+                this.columnTotals[c] += v;
+            }
+        }
+        this.rowCount++;
+        return total;
+    }
+
+    /**
+     * Adds every row of a chunk of the table.  A {@link DoubleValues2D}
+     * chunk (for example a {@link DefaultDoubleValues2D} that a reader
+     * refills for each chunk) is read without creating any objects.
+     *
+     * @param chunk  the rows (<code>null</code> not permitted, and the
+     *     column count must not exceed this instance's column count).
+     * @param rowTotals  receives the total of each row in the chunk
+     *     (<code>null</code> permitted if row totals are not required).
+     */
+    public void addRows(Values2D chunk, double[] rowTotals) {
+        ParamChecks.nullNotPermitted(chunk, "chunk");
+        int chunkRows = chunk.getRowCount();
+        int chunkColumns = chunk.getColumnCount();
+        checkRowLength(chunkColumns);
+        if (rowTotals != null && rowTotals.length < chunkRows) {
+            throw new IllegalArgumentException("The 'rowTotals' array has "
+                    + "length " + rowTotals.length + ", at least "
+                    + chunkRows + " required.");
+        }
+        DoubleValues2D d = (chunk instanceof DoubleValues2D)
+                ? (DoubleValues2D) chunk : null;
+        for (int r = 0; r < chunkRows; r++) {
+            double total = 0.0;
+            for (int c = 0; c < chunkColumns; c++) {
+                double v;
+                if (d != null) {
+                    v = d.getDoubleValue(r, c);
+                    if (Double.isNaN(v) && d.isNull(r, c)) {
+                        continue;
+                    }
+                }
+                else {
+                    Number n = chunk.getValue(r, c);
+                    if (n == null) {
+                        continue;
+                    }
+                    v = n.doubleValue();
+                }
+                total += v;
+                this.columnTotals[c] += v;
+            }
+            if (rowTotals != null) {
+                rowTotals[r] = total;
+            }
+        }
+        this.rowCount += chunkRows;
+    }
+
+    /**
+     * Adds all the remaining rows from an iterator.
+     *
+     * @param rows  the rows (<code>null</code> not permitted).
+     */
+    public void addRows(Iterator<double[]> rows) {
+        ParamChecks.nullNotPermitted(rows, "rows");
+        while (rows.hasNext()) {
+            addRow(rows.next());
+        }
+    }
+
+    /**
+     * Returns the running total for one column.
+     *
+     * @param column  the column index (zero-based).
+     *
+     * @return The total.
+     */
+    public double getColumnTotal(int column) {
+        return this.columnTotals[column];
+    }
+
+    /**
+     * Returns a copy of the running column totals.
+     *
+     * @return An array holding one total per column.
+     */
+    public double[] getColumnTotals() {
+        return (double[]) this.columnTotals.clone();
+    }
+
+    /**
+     * Writes the cumulative percentages of the column totals, in column
+     * order, to an array.  The values are those that
+     * {@link DataUtilities#getCumulativePercentages(KeyedValues)} returns
+     * for a {@link KeyedValues} holding the column totals.
+     *
+     * @param result  receives the percentages (<code>null</code> not
+     *     permitted, and the length must be at least the column count).
+     */
+    public void getCumulativePercentages(double[] result) {
+        ParamChecks.nullNotPermitted(result, "result");
+        int columnCount = this.columnTotals.length;
+        if (result.length < columnCount) {
+            throw new IllegalArgumentException("The 'result' array has "
+                    + "length " + result.length + ", at least "
+                    + columnCount + " required.");
+        }
+        double total = 0.0;
+        for (int c = 0; c < columnCount; c++) {
+            total = total + this.columnTotals[c];
+            result[c] = total;
+        }
+        for (int c = 0; c < columnCount; c++) {
+            result[c] = result[c] / total;
+        }
+    }
+
+    /**
+     * Clears the running totals and the row count.
+     */
+    public void reset() {
+        Arrays.fill(this.columnTotals, 0.0);
+        this.rowCount = 0;
+    }
+
+    /**
+     * Checks that a row is not longer than the column count.
+     *
+     * @param length  the row length.
+     */
+    private void checkRowLength(int length) {
+        if (length > this.columnTotals.length) {
+            throw new IllegalArgumentException("Row has " + length
+                    + " columns, at most " + this.columnTotals.length
+                    + " expected.");
+        }
+    }
+
+}
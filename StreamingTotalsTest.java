@@ -0,0 +1,79 @@
+package org.jfree.data;
+
+import static org.junit.Assert.*;
+import java.util.Arrays;
+import org.junit.Test;
+
+/**
+ * @author group17
+ *
+ */
+
+public class StreamingTotalsTest {
+
+// ---------------- METHOD BEING TESTED: addRows() ---------------- //
+
+    /**
+     * Purpose: Verifies that totals streamed in two chunks equal the in-memory totals, bit for bit.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testAddRowsInChunksMatchesInMemoryTotals() {
+        DefaultDoubleValues2D all = new DefaultDoubleValues2D(new double[][] {
+            {0.1, 0.2, 0.3}, {1e16, 1.0, -1e16}, {0.7, Double.NaN, 5.0}, {-0.1, 0.2, 3.0}});
+        all.setValue(2, 1, (Number) null);
+        DefaultDoubleValues2D first = new DefaultDoubleValues2D(new double[][] {{0.1, 0.2, 0.3}, {1e16, 1.0, -1e16}});
+        DefaultDoubleValues2D second = new DefaultDoubleValues2D(new double[][] {{0.7, 0.0, 5.0}, {-0.1, 0.2, 3.0}});
+        second.setValue(0, 1, (Number) null);
+
+        StreamingTotals totals = new StreamingTotals(3);
+        double[] rowTotals = new double[2];
+        totals.addRows(first, null);
+        totals.addRows(second, rowTotals);
+        assertEquals(4, totals.getRowCount());
+        for (int c = 0; c < 3; c++) {
+            assertEquals(Double.doubleToLongBits(DataUtilities.calculateColumnTotal(all, c)),
+                    Double.doubleToLongBits(totals.getColumnTotal(c)));
+        }
+        assertEquals(DataUtilities.calculateRowTotal(all, 3), rowTotals[1], 0.0);
+    }
+
+    /**
+     * Purpose: Verifies the iterator and boxed row inputs, including null cells and short rows.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testAddRowIteratorAndBoxedRows() {
+        double[] totals = StreamingTotals.calculateColumnTotals(
+                Arrays.asList(new double[] {1.0, 2.0}, new double[] {3.0}).iterator(), 2);
+        assertArrayEquals(new double[] {4.0, 2.0}, totals, 0.0);
+        StreamingTotals streaming = new StreamingTotals(2);
+        assertEquals(2.5, streaming.addRow(new Number[] {null, 2.5}), .000000001d);
+        assertEquals(2.5, streaming.getColumnTotal(1), .000000001d);
+    }
+
+    /**
+     * Purpose: Verifies that a row longer than the column count is rejected.
+     * Type of tests involved: exception testing
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddRowTooLong() {
+        new StreamingTotals(1).addRow(new double[] {1.0, 2.0});
+    }
+
+// ---------------- METHOD BEING TESTED: getCumulativePercentages() ---------------- //
+
+    /**
+     * Purpose: Verifies that the cumulative percentages of the column totals match DataUtilities.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testGetCumulativePercentages() {
+        StreamingTotals streaming = new StreamingTotals(3);
+        streaming.addRow(new double[] {5.0, 9.0, 2.0});
+        double[] result = new double[3];
+        streaming.getCumulativePercentages(result);
+        assertArrayEquals(new double[] {0.3125, 0.875, 1.0}, result, .000000001d);
+    }
+
+}
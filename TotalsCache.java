@@ -0,0 +1,581 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------
+ * TotalsCache.java
+ * ----------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  Group 17;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G17);
+ * 18-Oct-2026 : Added Selection keys with a precomputed hash (G17);
+ *
+ */
+
+package org.jfree.data;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.general.Dataset;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+
+/**
+ * A cache of the row and column totals of a {@link Values2D} table.  The
+ * totals are calculated with {@link PrimitiveDataUtilities} on first use
+ * and then served from a bounded, least-recently-used map.
+ * <p>
+ * If the table is a {@link Dataset}, the cache registers itself as a
+ * listener and clears every entry when a {@link DatasetChangeEvent}
+ * arrives (the event does not say which cells changed).  Code that knows
+ * exactly what it changed can instead call
+ * {@link #invalidateCell(int, int)}, {@link #invalidateRow(int)} or
+ * {@link #invalidateColumn(int)}, which remove only the affected totals.
+ * Each change also advances a version number, so a total that was being
+ * calculated while the table changed is never stored.
+ * <p>
+ * The overloads that take an <code>int[]</code> of valid rows or columns
+ * copy and hash the array on every lookup, so a hit costs as much as the
+ * size of the selection.  For large selections, create a
+ * {@link Selection} once and pass it instead: its hash is computed when it
+ * is created, and a lookup with the same selection object is answered in
+ * O(1) time.
+ */
+public class TotalsCache implements DatasetChangeListener {
+
+    /** The default maximum number of cached totals. */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    /** The entry kind for column totals. */
+    private static final int COLUMN = 0;
+
+    /** The entry kind for row totals. */
+    private static final int ROW = 1;
+
+    /** The table. */
+    private Values2D data;
+
+    /** The maximum number of cached totals. */
+    private int maximumSize;
+
+    /** The cached totals, in least-recently-used order. */
+    private LinkedHashMap<Key, Double> totals;
+
+    /** Incremented every time the cache is invalidated. */
+    private long version;
+
+    /** The number of lookups answered from the cache. */
+    private long hitCount;
+
+    /** The number of lookups that required a calculation. */
+    private long missCount;
+
+    /** The number of totals evicted to respect the maximum size. */
+    private long evictionCount;
+
+    /**
+     * Creates a cache with the default maximum size.
+     *
+     * @param data  the table (<code>null</code> not permitted).
+     */
+    public TotalsCache(Values2D data) {
+        this(data, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param data  the table (<code>null</code> not permitted).
+     * @param maximumSize  the maximum number of cached totals (must be
+     *     positive).
+     */
+    public TotalsCache(Values2D data, int maximumSize) {
+        ParamChecks.nullNotPermitted(data, "data");
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Requires 'maximumSize' > 0.");
+        }
+        this.data = data;
+        this.maximumSize = maximumSize;
+        this.totals = new LinkedHashMap<Key, Double>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Double> e) {
+                if (size() > TotalsCache.this.maximumSize) {
+                    TotalsCache.this.evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+        if (data instanceof Dataset) {
+            ((Dataset) data).addChangeListener(this);
+        }
+    }
+
+    /**
+     * Returns the table.
+     *
+     * @return The table (never <code>null</code>).
+     */
+    public Values2D getData() {
+        return this.data;
+    }
+
+    /**
+     * Returns the total of the values in one column of the table.
+     *
+     * @param column  the column index (zero-based).
+     *
+     * @return The total.
+     *
+     * @see DataUtilities#calculateColumnTotal(Values2D, int)
+     */
+    public double getColumnTotal(int column) {
+        return getTotal(new Key(COLUMN, column, null));
+    }
+
+    /**
+     * Returns the total of the values in one column of the table by taking
+     * only the row numbers in the array into account.
+     *
+     * @param column  the column index (zero-based).
+     * @param validRows  the array with valid rows (zero-based,
+     *     <code>null</code> not permitted).
+     *
+     * @return The total.
+     *
+     * @see DataUtilities#calculateColumnTotal(Values2D, int, int[])
+     */
+    public double getColumnTotal(int column, int[] validRows) {
+        ParamChecks.nullNotPermitted(validRows, "validRows");
+        return getTotal(new Key(COLUMN, column, new Selection(validRows)));
+    }
+
+    /**
+     * Returns the total of the values in one column of the table by taking
+     * only the selected rows into account.  A lookup with a selection that
+     * is already cached takes O(1) time.
+     *
+     * @param column  the column index (zero-based).
+     * @param validRows  the valid rows (<code>null</code> not permitted).
+     *
+     * @return The total.
+     *
+     * @see DataUtilities#calculateColumnTotal(Values2D, int, int[])
+     */
+    public double getColumnTotal(int column, Selection validRows) {
+        ParamChecks.nullNotPermitted(validRows, "validRows");
+        return getTotal(new Key(COLUMN, column, validRows));
+    }
+
+    /**
+     * Returns the total of the values in one row of the table.
+     *
+     * @param row  the row index (zero-based).
+     *
+     * @return The total.
+     *
+     * @see DataUtilities#calculateRowTotal(Values2D, int)
+     */
+    public double getRowTotal(int row) {
+        return getTotal(new Key(ROW, row, null));
+    }
+
+    /**
+     * Returns the total of the values in one row of the table by taking
+     * only the column numbers in the array into account.
+     *
+     * @param row  the row index (zero-based).
+     * @param validCols  the array with valid columns (zero-based,
+     *     <code>null</code> not permitted).
+     *
+     * @return The total.
+     *
+     * @see DataUtilities#calculateRowTotal(Values2D, int, int[])
+     */
+    public double getRowTotal(int row, int[] validCols) {
+        ParamChecks.nullNotPermitted(validCols, "validCols");
+        return getTotal(new Key(ROW, row, new Selection(validCols)));
+    }
+
+    /**
+     * Returns the total of the values in one row of the table by taking
+     * only the selected columns into account.  A lookup with a selection
+     * that is already cached takes O(1) time.
+     *
+     * @param row  the row index (zero-based).
+     * @param validCols  the valid columns (<code>null</code> not permitted).
+     *
+     * @return The total.
+     *
+     * @see DataUtilities#calculateRowTotal(Values2D, int, int[])
+     */
+    public double getRowTotal(int row, Selection validCols) {
+        ParamChecks.nullNotPermitted(validCols, "validCols");
+        return getTotal(new Key(ROW, row, validCols));
+    }
+
+    /**
+     * Returns a total from the cache, calculating and storing it if
+     * necessary.
+     *
+     * @param key  the key.
+     *
+     * @return The total.
+     */
+    private double getTotal(Key key) {
+        long v;
+        synchronized (this) {
+            Double cached = this.totals.get(key);
+            if (cached != null) {
+                this.hitCount++;
+                return cached.doubleValue();
+            }
+            this.missCount++;
+            v = this.version;
+        }
+        double total = calculate(key);
+        synchronized (this) {
+            if (v == this.version) {
+                this.totals.put(key, new Double(total));
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Calculates a total.
+     *
+     * @param key  the key.
+     *
+     * @return The total.
+     */
+    private double calculate(Key key) {
+        if (key.kind == COLUMN) {
+            if (key.valid == null) {
+                return PrimitiveDataUtilities.calculateColumnTotal(this.data,
+                        key.index);
+            }
+            return PrimitiveDataUtilities.calculateColumnTotal(this.data,
+                    key.index, key.valid.indices);
+        }
+        if (key.valid == null) {
+            return PrimitiveDataUtilities.calculateRowTotal(this.data,
+                    key.index);
+        }
+        return PrimitiveDataUtilities.calculateRowTotal(this.data, key.index,
+                key.valid.indices);
+    }
+
+    /**
+     * Removes the totals that depend on one cell.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     */
+    public synchronized void invalidateCell(int row, int column) {
+        this.version++;
+        Iterator<Key> iterator = this.totals.keySet().iterator();
+        while (iterator.hasNext()) {
+            Key key = iterator.next();
+            if (key.kind == ROW ? key.covers(row, column)
+                    : key.covers(column, row)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Removes the totals that depend on any cell in one row: the totals
+     * for that row, and the column totals that include it.
+     *
+     * @param row  the row index (zero-based).
+     */
+    public synchronized void invalidateRow(int row) {
+        invalidateLine(ROW, row);
+    }
+
+    /**
+     * Removes the totals that depend on any cell in one column: the totals
+     * for that column, and the row totals that include it.
+     *
+     * @param column  the column index (zero-based).
+     */
+    public synchronized void invalidateColumn(int column) {
+        invalidateLine(COLUMN, column);
+    }
+
+    /**
+     * Removes the totals that depend on a whole row or column.
+     *
+     * @param kind  the line kind.
+     * @param index  the row or column index.
+     */
+    private void invalidateLine(int kind, int index) {
+        this.version++;
+        Iterator<Key> iterator = this.totals.keySet().iterator();
+        while (iterator.hasNext()) {
+            Key key = iterator.next();
+            if (key.kind == kind ? key.index == index
+                    : key.includes(index)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Removes every cached total.
+     */
+    public synchronized void invalidateAll() {
+        this.version++;
+        this.totals.clear();
+    }
+
+    /**
+     * Clears the cache when the dataset changes.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void datasetChanged(DatasetChangeEvent event) {
+        invalidateAll();
+    }
+
+    /**
+     * Stops listening to the table, if it is a dataset.  Call this when the
+     * cache is no longer needed.
+     */
+    public void dispose() {
+        if (this.data instanceof Dataset) {
+            ((Dataset) this.data).removeChangeListener(this);
+        }
+    }
+
+    /**
+     * Returns the number of cached totals.
+     *
+     * @return The size.
+     */
+    public synchronized int getSize() {
+        return this.totals.size();
+    }
+
+    /**
+     * Returns the maximum number of cached totals.
+     *
+     * @return The maximum size.
+     */
+    public int getMaximumSize() {
+        return this.maximumSize;
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     *
+     * @return The hit count.
+     */
+    public synchronized long getHitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     * Returns the number of lookups that required a calculation.
+     *
+     * @return The miss count.
+     */
+    public synchronized long getMissCount() {
+        return this.missCount;
+    }
+
+    /**
+     * Returns the number of totals evicted to respect the maximum size.
+     *
+     * @return The eviction count.
+     */
+    public synchronized long getEvictionCount() {
+        return this.evictionCount;
+    }
+
+    /**
+     * Returns the version number, which advances every time cached totals
+     * are invalidated.
+     *
+     * @return The version.
+     */
+    public synchronized long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * An immutable list of valid row or column indices, for use as part of
+     * a cache key.  The hash code is computed once, when the selection is
+     * created, and the indices are also kept sorted so that invalidation
+     * can test membership by binary search.
+     */
+    public static final class Selection {
+
+        /** The indices, in the order given. */
+        private final int[] indices;
+
+        /** The indices, sorted. */
+        private final int[] sorted;
+
+        /** The hash code of the indices. */
+        private final int hash;
+
+        /**
+         * Creates a selection.  The array is copied.
+         *
+         * @param indices  the valid indices (zero-based, <code>null</code>
+         *     not permitted).
+         */
+        public Selection(int[] indices) {
+            ParamChecks.nullNotPermitted(indices, "indices");
+            this.indices = (int[]) indices.clone();
+            this.sorted = (int[]) indices.clone();
+            Arrays.sort(this.sorted);
+            this.hash = Arrays.hashCode(this.indices);
+        }
+
+        /**
+         * Returns the number of indices.
+         *
+         * @return The size.
+         */
+        public int size() {
+            return this.indices.length;
+        }
+
+        /**
+         * Returns <code>true</code> if the selection includes an index.
+         *
+         * @param index  the index.
+         *
+         * @return A boolean.
+         */
+        public boolean contains(int index) {
+            return Arrays.binarySearch(this.sorted, index) >= 0;
+        }
+
+        /**
+         * Tests this selection for equality with an arbitrary object.
+         *
+         * @param obj  the object (<code>null</code> permitted).
+         *
+         * @return A boolean.
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Selection)) {
+                return false;
+            }
+            Selection that = (Selection) obj;
+            return this.hash == that.hash
+                    && Arrays.equals(this.indices, that.indices);
+        }
+
+        /**
+         * Returns a hash code for this selection.
+         *
+         * @return A hash code.
+         */
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+    }
+
+    /**
+     * Identifies one cached total.
+     */
+    private static final class Key {
+
+        /** The kind ({@link #COLUMN} or {@link #ROW}). */
+        final int kind;
+
+        /** The column or row index. */
+        final int index;
+
+        /** The valid rows or columns (<code>null</code> for all). */
+        final Selection valid;
+
+        Key(int kind, int index, Selection valid) {
+            this.kind = kind;
+            this.index = index;
+            this.valid = valid;
+        }
+
+        /**
+         * Returns <code>true</code> if this total includes the cell at
+         * <code>position</code> along the line <code>line</code>.
+         */
+        boolean covers(int line, int position) {
+            return this.index == line && includes(position);
+        }
+
+        /**
+         * Returns <code>true</code> if this total includes the given
+         * position along its line.
+         */
+        boolean includes(int position) {
+            return this.valid == null || this.valid.contains(position);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) obj;
+            if (this.kind != that.kind || this.index != that.index) {
+                return false;
+            }
+            return (this.valid == null) ? that.valid == null
+                    : this.valid.equals(that.valid);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = this.kind;
+            result = 29 * result + this.index;
+            result = 29 * result + (this.valid != null
+                    ? this.valid.hashCode() : 0);
+            return result;
+        }
+
+    }
+
+}
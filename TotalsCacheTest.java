@@ -0,0 +1,130 @@
+package org.jfree.data;
+
+import static org.junit.Assert.*;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author group17
+ *
+ */
+
+public class TotalsCacheTest {
+
+    private DefaultCategoryDataset dataset;
+
+    @Before
+    public void setUp() {
+        this.dataset = new DefaultCategoryDataset();
+        this.dataset.addValue(1.0, "R0", "C0");
+        this.dataset.addValue(2.0, "R0", "C1");
+        this.dataset.addValue(3.0, "R1", "C0");
+        this.dataset.addValue(4.0, "R1", "C1");
+    }
+
+// ---------------- METHOD BEING TESTED: getColumnTotal() / getRowTotal() ---------------- //
+
+    /**
+     * Purpose: Verifies that a repeated lookup is a hit and returns the same total as DataUtilities.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testRepeatedLookupIsHit() {
+        TotalsCache cache = new TotalsCache(this.dataset);
+        assertEquals(DataUtilities.calculateColumnTotal(this.dataset, 1), cache.getColumnTotal(1), 0.0);
+        assertEquals(6.0, cache.getColumnTotal(1), .000000001d);
+        assertEquals(7.0, cache.getRowTotal(1, new int[] {0, 1}), .000000001d);
+        assertEquals(7.0, cache.getRowTotal(1, new int[] {0, 1}), .000000001d);
+        assertEquals(2, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    /**
+     * Purpose: Verifies that a hit with a selection handle does not scale with the size of the selection: 100000
+     * hits on a selection of 10^6 indices would take minutes if each hit copied or hashed the indices.
+     * Type of tests involved: boundary value testing
+     */
+    @Test(timeout = 10000)
+    public void testSelectionHitDoesNotScaleWithSize() {
+        int[] rows = new int[1000000];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = i;
+        }
+        TotalsCache cache = new TotalsCache(this.dataset);
+        TotalsCache.Selection selection = new TotalsCache.Selection(rows);
+        rows[0] = 1;
+        assertEquals(DataUtilities.calculateColumnTotal(this.dataset, 0, new int[] {0, 1}),
+                cache.getColumnTotal(0, selection), 0.0);
+        for (int i = 0; i < 100000; i++) {
+            assertEquals(4.0, cache.getColumnTotal(0, selection), 0.0);
+        }
+        assertEquals(100000, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        cache.invalidateCell(1, 0);
+        assertEquals(0, cache.getSize());
+    }
+
+    /**
+     * Purpose: Verifies that a change to the dataset clears the cache through its change event.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testDatasetChangeInvalidates() {
+        TotalsCache cache = new TotalsCache(this.dataset);
+        assertEquals(4.0, cache.getColumnTotal(0), .000000001d);
+        long version = cache.getVersion();
+        this.dataset.setValue(10.0, "R1", "C0");
+        assertTrue(cache.getVersion() > version);
+        assertEquals(0, cache.getSize());
+        assertEquals(11.0, cache.getColumnTotal(0), .000000001d);
+        cache.dispose();
+        this.dataset.setValue(20.0, "R1", "C0");
+        assertEquals(11.0, cache.getColumnTotal(0), .000000001d);
+    }
+
+    /**
+     * Purpose: Verifies that invalidating one cell removes only the totals that include it.
+     * Type of tests involved: equivalence class testing
+     */
+    @Test
+    public void testInvalidateCell() {
+        TotalsCache cache = new TotalsCache(this.dataset);
+        cache.getColumnTotal(0);
+        cache.getColumnTotal(1);
+        cache.getColumnTotal(0, new int[] {1});
+        cache.getRowTotal(0);
+        cache.getRowTotal(1);
+        cache.invalidateCell(0, 0);
+        assertEquals(3, cache.getSize());
+        cache.invalidateRow(1);
+        assertEquals(0, cache.getSize());
+    }
+
+    /**
+     * Purpose: Verifies that the least recently used total is evicted once the maximum size is reached.
+     * Type of tests involved: boundary value testing
+     */
+    @Test
+    public void testEviction() {
+        TotalsCache cache = new TotalsCache(this.dataset, 2);
+        cache.getColumnTotal(0);
+        cache.getColumnTotal(1);
+        cache.getColumnTotal(0);
+        cache.getRowTotal(0);
+        assertEquals(2, cache.getSize());
+        assertEquals(1, cache.getEvictionCount());
+        cache.getColumnTotal(0);
+        assertEquals(2, cache.getHitCount());
+    }
+
+    /**
+     * Purpose: Verifies that a non-positive maximum size is rejected.
+     * Type of tests involved: exception testing
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorZeroMaximumSize() {
+        new TotalsCache(this.dataset, 0);
+    }
+
+}
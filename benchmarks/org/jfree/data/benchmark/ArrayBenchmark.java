@@ -0,0 +1,119 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * ArrayBenchmark.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  Group 17;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G17);
+ *
+ */
+
+package org.jfree.data.benchmark;
+
+
+import java.util.concurrent.TimeUnit;
+import org.jfree.data.DataUtilities;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for the two-dimensional array methods in
+ * {@link DataUtilities}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 2, jvmArgsAppend = {"-Xmx4g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ArrayBenchmark {
+
+    /** The number of cells. */
+    @Param({"10", "1000", "100000", "10000000"})
+    public int cells;
+
+    /** The array under test. */
+    private double[][] array;
+
+    /** A copy of the array. */
+    private double[][] arrayCopy;
+
+    /**
+     * Builds the arrays.
+     */
+    @Setup
+    public void setUp() {
+        this.array = BenchmarkData.createArray(this.cells);
+        this.arrayCopy = DataUtilities.clone(this.array);
+    }
+
+    /**
+     * Boxes the array.
+     *
+     * @return The boxed array.
+     */
+    @Benchmark
+    public Number[][] createNumberArray2D() {
+        return DataUtilities.createNumberArray2D(this.array);
+    }
+
+    /**
+     * Copies the array.
+     *
+     * @return The copy.
+     */
+    @Benchmark
+    public double[][] cloneArray() {
+        return DataUtilities.clone(this.array);
+    }
+
+    /**
+     * Compares the array with an equal copy.
+     *
+     * @return The result of the comparison.
+     */
+    @Benchmark
+    public boolean equal() {
+        return DataUtilities.equal(this.array, this.arrayCopy);
+    }
+
+}
@@ -0,0 +1,178 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------
+ * BenchmarkData.java
+ * ------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  Group 17;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G17);
+ *
+ */
+
+package org.jfree.data.benchmark;
+
+
+import java.util.Random;
+import org.jfree.data.DefaultDoubleValues2D;
+import org.jfree.data.DefaultKeyedValues2D;
+import org.jfree.data.PrimitiveDataUtilities;
+import org.jfree.data.Values2D;
+import org.jfree.data.category.DefaultCategoryDataset;
+
+/**
+ * Builds the inputs shared by the benchmarks.  The values are generated
+ * from a fixed seed, so every fork of every benchmark sees the same data.
+ */
+final class BenchmarkData {
+
+    /** The seed for the generated values. */
+    private static final long SEED = 438L;
+
+    /**
+     * Not used.
+     */
+    private BenchmarkData() {
+    }
+
+    /**
+     * Returns an array of random values, with as close to the requested
+     * number of cells as a square-ish table allows.
+     *
+     * @param cells  the number of cells.
+     *
+     * @return The array.
+     */
+    static double[][] createArray(int cells) {
+        int rows = Math.max(1, (int) Math.sqrt(cells));
+        int columns = cells / rows;
+        Random random = new Random(SEED);
+        double[][] result = new double[rows][columns];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                result[r][c] = random.nextDouble() * 100.0;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a table holding the values of an array.
+     *
+     * @param impl  the implementation name (<code>"double[][]"</code>,
+     *     <code>"DefaultDoubleValues2D"</code>,
+     *     <code>"DefaultKeyedValues2D"</code> or
+     *     <code>"DefaultCategoryDataset"</code>).
+     * @param array  the values.
+     * @param nullDensity  the fraction of cells to leave
+     *     <code>null</code> (ignored for <code>"double[][]"</code>, which
+     *     cannot hold nulls).
+     *
+     * @return The table.
+     */
+    static Values2D createTable(String impl, double[][] array,
+            double nullDensity) {
+        if ("double[][]".equals(impl)) {
+            return PrimitiveDataUtilities.createValues2D(array);
+        }
+        Random random = new Random(SEED + 1);
+        int rows = array.length;
+        int columns = array[0].length;
+        if ("DefaultDoubleValues2D".equals(impl)) {
+            DefaultDoubleValues2D result = new DefaultDoubleValues2D(array);
+            for (int r = 0; r < rows; r++) {
+                for (int c = 0; c < columns; c++) {
+                    if (random.nextDouble() < nullDensity) {
+                        result.setValue(r, c, (Number) null);
+                    }
+                }
+            }
+            return result;
+        }
+        DefaultKeyedValues2D kv = null;
+        DefaultCategoryDataset ds = null;
+        if ("DefaultKeyedValues2D".equals(impl)) {
+            kv = new DefaultKeyedValues2D();
+        }
+        else if ("DefaultCategoryDataset".equals(impl)) {
+            ds = new DefaultCategoryDataset();
+        }
+        else {
+            throw new IllegalArgumentException("Unknown implementation: "
+                    + impl);
+        }
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                Double v = (random.nextDouble() < nullDensity) ? null
+                        : Double.valueOf(array[r][c]);
+                if (kv != null) {
+                    kv.addValue(v, "R" + r, "C" + c);
+                }
+                else {
+                    ds.addValue(v, "R" + r, "C" + c);
+                }
+            }
+        }
+        return (kv != null) ? kv : ds;
+    }
+
+    /**
+     * Returns every other index below a limit.
+     *
+     * @param limit  the limit.
+     *
+     * @return The indices.
+     */
+    static int[] everyOther(int limit) {
+        int[] result = new int[(limit + 1) / 2];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = i * 2;
+        }
+        return result;
+    }
+
+    /**
+     * Returns an array of random values.
+     *
+     * @param items  the number of values.
+     *
+     * @return The array.
+     */
+    static double[] createValues(int items) {
+        Random random = new Random(SEED);
+        double[] result = new double[items];
+        for (int i = 0; i < items; i++) {
+            result[i] = random.nextDouble() * 100.0;
+        }
+        return result;
+    }
+
+}
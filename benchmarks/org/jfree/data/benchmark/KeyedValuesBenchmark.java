@@ -0,0 +1,133 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * KeyedValuesBenchmark.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  Group 17;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G17);
+ *
+ */
+
+package org.jfree.data.benchmark;
+
+
+import java.util.concurrent.TimeUnit;
+import org.jfree.data.DataUtilities;
+import org.jfree.data.DefaultKeyedValues;
+import org.jfree.data.KeyedValues;
+import org.jfree.data.PrimitiveDataUtilities;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for the one-dimensional methods in {@link DataUtilities}
+ * and {@link PrimitiveDataUtilities}, sized by item count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 2, jvmArgsAppend = {"-Xmx4g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class KeyedValuesBenchmark {
+
+    /** The number of items. */
+    @Param({"10", "1000", "100000", "10000000"})
+    public int items;
+
+    /** The values. */
+    private double[] values;
+
+    /** The values with one key per item. */
+    private KeyedValues keyedValues;
+
+    /** A buffer for the allocation-free cumulative percentages. */
+    private double[] buffer;
+
+    /**
+     * Builds the inputs.
+     */
+    @Setup
+    public void setUp() {
+        this.values = BenchmarkData.createValues(this.items);
+        DefaultKeyedValues kv = new DefaultKeyedValues();
+        for (int i = 0; i < this.items; i++) {
+            kv.addValue("K" + i, this.values[i]);
+        }
+        this.keyedValues = kv;
+        this.buffer = new double[this.items];
+    }
+
+    /**
+     * Boxes the values.
+     *
+     * @return The boxed values.
+     */
+    @Benchmark
+    public Number[] createNumberArray() {
+        return DataUtilities.createNumberArray(this.values);
+    }
+
+    /**
+     * Calculates the cumulative percentages with {@link DataUtilities}.
+     *
+     * @return The percentages.
+     */
+    @Benchmark
+    public KeyedValues getCumulativePercentages() {
+        return DataUtilities.getCumulativePercentages(this.keyedValues);
+    }
+
+    /**
+     * Calculates the cumulative percentages into a buffer with
+     * {@link PrimitiveDataUtilities}.
+     *
+     * @return The buffer.
+     */
+    @Benchmark
+    public double[] primitiveGetCumulativePercentages() {
+        PrimitiveDataUtilities.getCumulativePercentages(this.keyedValues,
+                this.buffer);
+        return this.buffer;
+    }
+
+}
@@ -0,0 +1,197 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * TableBenchmark.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  Group 17;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G17);
+ *
+ */
+
+package org.jfree.data.benchmark;
+
+
+import java.util.concurrent.TimeUnit;
+import org.jfree.data.DataUtilities;
+import org.jfree.data.PrimitiveDataUtilities;
+import org.jfree.data.Values2D;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks for the table totals in {@link DataUtilities} and
+ * {@link PrimitiveDataUtilities}, over every column (or row) of a table,
+ * for a range of table sizes, <code>null</code> densities and
+ * {@link Values2D} implementations.  The <code>double[][]</code> view
+ * cannot hold <code>null</code>s, so its null density has no effect.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 2, jvmArgsAppend = {"-Xmx4g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TableBenchmark {
+
+    /** The implementation. */
+    @Param({"double[][]", "DefaultDoubleValues2D", "DefaultKeyedValues2D",
+        "DefaultCategoryDataset"})
+    public String impl;
+
+    /** The number of cells. */
+    @Param({"10", "1000", "100000", "1000000"})
+    public int cells;
+
+    /** The fraction of cells that are <code>null</code>. */
+    @Param({"0.0", "0.5"})
+    public double nullDensity;
+
+    /** The table under test. */
+    private Values2D table;
+
+    /** Every other row index. */
+    private int[] validRows;
+
+    /** Every other column index. */
+    private int[] validCols;
+
+    /**
+     * Builds the table.
+     */
+    @Setup
+    public void setUp() {
+        double[][] array = BenchmarkData.createArray(this.cells);
+        this.table = BenchmarkData.createTable(this.impl, array,
+                this.nullDensity);
+        this.validRows = BenchmarkData.everyOther(this.table.getRowCount());
+        this.validCols = BenchmarkData.everyOther(
+                this.table.getColumnCount());
+    }
+
+    /**
+     * Totals every column with {@link DataUtilities}.
+     *
+     * @param bh  the blackhole.
+     */
+    @Benchmark
+    public void calculateColumnTotal(Blackhole bh) {
+        for (int c = 0; c < this.table.getColumnCount(); c++) {
+            bh.consume(DataUtilities.calculateColumnTotal(this.table, c));
+        }
+    }
+
+    /**
+     * Totals every column over every other row with {@link DataUtilities}.
+     *
+     * @param bh  the blackhole.
+     */
+    @Benchmark
+    public void calculateColumnTotalValidRows(Blackhole bh) {
+        for (int c = 0; c < this.table.getColumnCount(); c++) {
+            bh.consume(DataUtilities.calculateColumnTotal(this.table, c,
+                    this.validRows));
+        }
+    }
+
+    /**
+     * Totals every row with {@link DataUtilities}.
+     *
+     * @param bh  the blackhole.
+     */
+    @Benchmark
+    public void calculateRowTotal(Blackhole bh) {
+        for (int r = 0; r < this.table.getRowCount(); r++) {
+            bh.consume(DataUtilities.calculateRowTotal(this.table, r));
+        }
+    }
+
+    /**
+     * Totals every row over every other column with {@link DataUtilities}.
+     *
+     * @param bh  the blackhole.
+     */
+    @Benchmark
+    public void calculateRowTotalValidCols(Blackhole bh) {
+        for (int r = 0; r < this.table.getRowCount(); r++) {
+            bh.consume(DataUtilities.calculateRowTotal(this.table, r,
+                    this.validCols));
+        }
+    }
+
+    /**
+     * Totals every column with {@link PrimitiveDataUtilities}.
+     *
+     * @param bh  the blackhole.
+     */
+    @Benchmark
+    public void primitiveCalculateColumnTotal(Blackhole bh) {
+        for (int c = 0; c < this.table.getColumnCount(); c++) {
+            bh.consume(PrimitiveDataUtilities.calculateColumnTotal(
+                    this.table, c));
+        }
+    }
+
+    /**
+     * Totals every row with {@link PrimitiveDataUtilities}.
+     *
+     * @param bh  the blackhole.
+     */
+    @Benchmark
+    public void primitiveCalculateRowTotal(Blackhole bh) {
+        for (int r = 0; r < this.table.getRowCount(); r++) {
+            bh.consume(PrimitiveDataUtilities.calculateRowTotal(this.table,
+                    r));
+        }
+    }
+
+    /**
+     * Totals every column in one pass with {@link PrimitiveDataUtilities}.
+     *
+     * @return The totals.
+     */
+    @Benchmark
+    public double[] primitiveCalculateColumnTotals() {
+        return PrimitiveDataUtilities.calculateColumnTotals(this.table);
+    }
+
+}
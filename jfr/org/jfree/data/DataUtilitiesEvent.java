@@ -0,0 +1,89 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * DataUtilitiesEvent.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  Group 17;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G17);
+ * 18-Oct-2026 : Begin events at the start of the call (G17);
+ * 18-Oct-2026 : Moved to the jfr source tree (G17);
+ *
+ */
+
+package org.jfree.data;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for one call to a monitored
+ * {@link DataUtilities} method.  Events are only created when the
+ * {@link DataUtilitiesMonitor} is enabled and the event is enabled in a
+ * running recording (see {@link JfrEventFactory}).  The event begins when the
+ * call starts, so its duration is the time spent in the call.
+ */
+@Name("org.jfree.data.DataUtilities")
+@Label("DataUtilities Call")
+@Category({"JFreeChart", "Data"})
+@Description("A call to a DataUtilities method")
+@StackTrace(false)
+class DataUtilitiesEvent extends jdk.jfr.Event {
+
+    /** The method name. */
+    @Label("Method")
+    String method;
+
+    /** The number of rows (or items). */
+    @Label("Rows")
+    int rows;
+
+    /** The number of columns. */
+    @Label("Columns")
+    int columns;
+
+    /** The number of cells read. */
+    @Label("Cells Visited")
+    long cellsVisited;
+
+    /** The number of null cells skipped. */
+    @Label("Nulls Skipped")
+    long nullsSkipped;
+
+    /** The number of Number objects created. */
+    @Label("Numbers Created")
+    long numbersCreated;
+
+}
@@ -0,0 +1,91 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * JfrEventFactory.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  Group 17;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G17);
+ *
+ */
+
+package org.jfree.data;
+
+
+import jdk.jfr.EventType;
+
+/**
+ * The Flight Recorder implementation of {@link DataUtilitiesEventFactory}.
+ * It checks whether the event is enabled through a cached
+ * {@link EventType} before allocating, so a call made while the event is
+ * disabled creates no event object.
+ */
+final class JfrEventFactory implements DataUtilitiesEventFactory {
+
+    /** The event type. */
+    private static final EventType TYPE
+            = EventType.getEventType(DataUtilitiesEvent.class);
+
+    /**
+     * Creates the factory (called by name from
+     * {@link DataUtilitiesMonitor}).
+     */
+    JfrEventFactory() {
+    }
+
+    @Override
+    public Object begin() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        DataUtilitiesEvent event = new DataUtilitiesEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void commit(Object e, String method, int rows, int columns,
+            long cells, long nulls, long numbers) {
+        DataUtilitiesEvent event = (DataUtilitiesEvent) e;
+        event.end();
+        if (event.shouldCommit()) {
+            event.method = method;
+            event.rows = rows;
+            event.columns = columns;
+            event.cellsVisited = cells;
+            event.nullsSkipped = nulls;
+            event.numbersCreated = numbers;
+            event.commit();
+        }
+    }
+
+}